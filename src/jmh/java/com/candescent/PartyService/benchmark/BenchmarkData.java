@@ -0,0 +1,86 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.entities.PartyEntity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Representative party payloads shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer",
+            "Michael", "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia",
+            "Miller", "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com", "outlook.com", "mail.example.com"};
+
+    private BenchmarkData() {
+    }
+
+    static PartyRequest partyRequest() {
+        return PartyRequest.builder()
+                .custFirstName("John")
+                .custLastName("Doe")
+                .emailId("john.doe+statements@mail.example.com")
+                .phoneNo("+1 (555) 010-2030")
+                .build();
+    }
+
+    static PartyResponse partyResponse() {
+        return PartyResponse.builder()
+                .id("1234567")
+                .custFirstName("John")
+                .custLastName("Doe")
+                .emailId("john.doe+statements@mail.example.com")
+                .phoneNo("+1 (555) 010-2030")
+                .build();
+    }
+
+    /**
+     * Distinct parties with names, emails and phone numbers drawn like real ones, so that
+     * compression ratios are not flattered by repeated rows. The same count gives the same parties.
+     */
+    static List<PartyEntity> partyEntities(int count) {
+        Random random = new Random(count);
+        Instant now = Instant.parse("2024-06-01T12:00:00Z");
+        List<PartyEntity> parties = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Instant created = now.minusSeconds(random.nextInt(100_000_000));
+            parties.add(PartyEntity.builder()
+                    .id(1_000_000L + i * 7L + random.nextInt(7))
+                    .custFirstName(firstName)
+                    .custLastName(lastName)
+                    .emailId(firstName.toLowerCase() + "." + lastName.toLowerCase() + random.nextInt(1000)
+                            + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)])
+                    .phoneNo(String.format("+1 %03d %03d %04d", 200 + random.nextInt(800), random.nextInt(1000),
+                            random.nextInt(10_000)))
+                    .createdTs(created)
+                    .modifiedTs(created)
+                    .build());
+        }
+        return parties;
+    }
+
+    /**
+     * The parties of {@link #partyEntities(int)} as API responses.
+     */
+    static List<PartyResponse> partyResponses(int count) {
+        return partyEntities(count).stream()
+                .map(party -> PartyResponse.builder()
+                        .id(String.valueOf(party.getId()))
+                        .custFirstName(party.getCustFirstName())
+                        .custLastName(party.getCustLastName())
+                        .emailId(party.getEmailId())
+                        .phoneNo(party.getPhoneNo())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.common.util.StringUtils;
+import com.candescent.PartyService.index.FingerprintIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures email lookups through {@link FingerprintIndex}, including normalization and
+ * fingerprinting, against a {@code ConcurrentHashMap<String, Long>} holding the same keys.
+ * The index's heap per entry is printed once the table is filled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FingerprintIndexBenchmark {
+
+    private static final int KEYS = 1024;
+
+    @Param({"100000", "1000000"})
+    private int entries;
+
+    private FingerprintIndex index;
+    private ConcurrentHashMap<String, Long> map;
+    private String[] presentEmails;
+    private String[] absentEmails;
+
+    @Setup
+    public void setUp() {
+        index = new FingerprintIndex(entries);
+        map = new ConcurrentHashMap<>(entries);
+        for (int i = 0; i < entries; i++) {
+            String email = email(i);
+            index.add(FingerprintIndex.fingerprint(email), i);
+            map.put(email, (long) i);
+        }
+        presentEmails = new String[KEYS];
+        absentEmails = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            presentEmails[i] = email(ThreadLocalRandom.current().nextInt(entries)).toUpperCase();
+            absentEmails[i] = email(entries + i);
+        }
+        System.out.printf("%nFingerprintIndex: %d entries, %d slots, %d bytes, %.1f bytes per entry%n",
+                index.size(), index.capacity(), index.memoryBytes(), (double) index.memoryBytes() / index.size());
+    }
+
+    private static String email(int i) {
+        return "customer." + i + "@mail.example.com";
+    }
+
+    @Benchmark
+    public long[] indexHit() {
+        String email = presentEmails[ThreadLocalRandom.current().nextInt(KEYS)];
+        return index.find(FingerprintIndex.fingerprint(StringUtils.normalizeEmail(email)));
+    }
+
+    @Benchmark
+    public long[] indexMiss() {
+        String email = absentEmails[ThreadLocalRandom.current().nextInt(KEYS)];
+        return index.find(FingerprintIndex.fingerprint(StringUtils.normalizeEmail(email)));
+    }
+
+    @Benchmark
+    public Long hashMapHit() {
+        String email = presentEmails[ThreadLocalRandom.current().nextInt(KEYS)];
+        return map.get(StringUtils.normalizeEmail(email));
+    }
+
+    @Benchmark
+    public Long hashMapMiss() {
+        String email = absentEmails[ThreadLocalRandom.current().nextInt(KEYS)];
+        return map.get(StringUtils.normalizeEmail(email));
+    }
+}
@@ -0,0 +1,66 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.config.JacksonConfig;
+import com.candescent.PartyService.dto.common.ServiceRequest;
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the party envelope codecs registered by {@link JacksonConfig#partyJsonCodecs()} with
+ * Jackson's default bean serialization of the same DTOs, writing {@code ServiceResponse<PartyResponse>}
+ * and reading {@code ServiceRequest<PartyRequest>} the way the HTTP message converter does. Both use
+ * the Jackson 3 JsonMapper Spring MVC uses; {@code default} is that mapper without the codecs. Run
+ * with {@code -prof gc} (the default) to compare bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartyEnvelopeCodecBenchmark {
+
+    private static final TypeReference<ServiceResponse<PartyResponse>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<ServiceRequest<PartyRequest>> REQUEST_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"codec", "default"})
+    private String mapper;
+
+    private ObjectWriter responseWriter;
+    private ObjectReader requestReader;
+    private ServiceResponse<PartyResponse> response;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        if ("codec".equals(mapper)) {
+            new JacksonConfig().partyJsonCodecs().customize(builder);
+        }
+        JsonMapper jsonMapper = builder.build();
+        responseWriter = jsonMapper.writerFor(RESPONSE_TYPE);
+        requestReader = jsonMapper.readerFor(REQUEST_TYPE);
+        response = ServiceResponse.success(BenchmarkData.partyResponse(), "Party retrieved successfully");
+        requestJson = jsonMapper.writeValueAsBytes(ServiceRequest.of(BenchmarkData.partyRequest()));
+    }
+
+    @Benchmark
+    public byte[] writeResponse() {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ServiceRequest<PartyRequest> readRequest() {
+        return requestReader.readValue(requestJson);
+    }
+}
@@ -0,0 +1,66 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.config.JacksonConfig;
+import com.candescent.PartyService.entities.PartyEntity;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.candescent.PartyService.export.PartyExportWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-row cost of {@link PartyExportWriter}, isolated from the database.
+ *
+ * Each invocation writes {@link #ROWS} rows to a discarding stream, so the reported time divided
+ * by the row count gives the writer's share of a full export; multiply by the table size
+ * (e.g. 10M rows) to estimate its contribution to a nightly dump.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(PartyExportWriterBenchmark.ROWS)
+public class PartyExportWriterBenchmark {
+
+    static final int ROWS = 10_000;
+
+    @Param({"NDJSON", "CSV"})
+    private PartyExportFormat format;
+
+    private final JsonFactory jsonFactory = new JacksonConfig().objectMapper().getFactory();
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private PartyEntity[] parties;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        parties = new PartyEntity[64];
+        for (int i = 0; i < parties.length; i++) {
+            parties[i] = PartyEntity.builder()
+                    .id(1_000_000L + i)
+                    .custFirstName("John")
+                    .custLastName(i % 8 == 0 ? "Doe, Jr." : "Doe")
+                    .emailId("john.doe+" + i + "@mail.example.com")
+                    .phoneNo("+1 (555) 010-" + (2000 + i))
+                    .createdTs(now)
+                    .modifiedTs(now)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void writeRows() throws IOException {
+        try (PartyExportWriter writer = PartyExportWriter.create(format, jsonFactory, sink)) {
+            for (int i = 0; i < ROWS; i++) {
+                writer.write(parties[i & 63]);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.entities.PartyEntity;
+import com.candescent.PartyService.mapper.PartyMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the DTO/entity conversions done on every party request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartyMapperBenchmark {
+
+    private final PartyMapper partyMapper = new PartyMapper();
+
+    private PartyRequest request;
+    private PartyEntity entity;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkData.partyRequest();
+        entity = partyMapper.toEntity(request);
+        entity.setId(1_234_567L);
+        entity.setCreatedTs(Instant.now());
+        entity.setModifiedTs(Instant.now());
+    }
+
+    @Benchmark
+    public PartyEntity toEntity() {
+        return partyMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public PartyResponse toResponse() {
+        return partyMapper.toResponse(entity);
+    }
+
+    @Benchmark
+    public PartyEntity updateEntityFromRequest() {
+        partyMapper.updateEntityFromRequest(entity, request);
+        return entity;
+    }
+}
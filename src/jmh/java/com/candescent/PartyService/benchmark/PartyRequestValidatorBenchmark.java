@@ -0,0 +1,89 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.common.exception.ValidationException;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.validation.PartyRequestValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PartyRequestValidator} with the previous controller validation,
+ * which compiled both regular expressions through {@code String.matches} on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class PartyRequestValidatorBenchmark {
+
+    private final PartyRequestValidator validator = new PartyRequestValidator();
+
+    private PartyRequest validRequest;
+    private PartyRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validRequest = BenchmarkData.partyRequest();
+        invalidRequest = PartyRequest.builder()
+                .custFirstName(" ")
+                .custLastName("Doe")
+                .emailId("john.doe@example")
+                .phoneNo("555-CALL-NOW")
+                .build();
+    }
+
+    @Benchmark
+    public List<String> validatorValid() {
+        return validator.collectErrors(validRequest);
+    }
+
+    @Benchmark
+    public List<String> validatorInvalid() {
+        return validator.collectErrors(invalidRequest);
+    }
+
+    @Benchmark
+    public void legacyValid(Blackhole blackhole) {
+        blackhole.consume(legacyValidate(validRequest));
+    }
+
+    @Benchmark
+    public void legacyInvalid(Blackhole blackhole) {
+        blackhole.consume(legacyValidate(invalidRequest));
+    }
+
+    /**
+     * Previous {@code PartyController.validatePartyRequest}, reporting the first failure.
+     */
+    private static String legacyValidate(PartyRequest request) {
+        try {
+            if (request.getCustFirstName() == null || request.getCustFirstName().trim().isEmpty()) {
+                throw new ValidationException("First name is required");
+            }
+            if (request.getCustLastName() == null || request.getCustLastName().trim().isEmpty()) {
+                throw new ValidationException("Last name is required");
+            }
+            if (request.getEmailId() == null || request.getEmailId().trim().isEmpty()) {
+                throw new ValidationException("Email ID is required");
+            }
+            if (!request.getEmailId().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
+                throw new ValidationException("Invalid email format");
+            }
+            if (request.getPhoneNo() == null || request.getPhoneNo().trim().isEmpty()) {
+                throw new ValidationException("Phone number is required");
+            }
+            if (!request.getPhoneNo().matches("^[0-9+\\-\\s()]{7,20}$")) {
+                throw new ValidationException("Invalid phone number format");
+            }
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+}
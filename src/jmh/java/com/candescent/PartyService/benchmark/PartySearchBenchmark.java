@@ -0,0 +1,139 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.repository.PartySearchRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PartySearchRepository} against PostgreSQL tables of 1M, 10M and 50M synthetic
+ * parties, with the same trigram GIN indexes as {@code party}.
+ *
+ * Each size is generated once into its own schema ({@code party_search_bench_<rows>}) and reused
+ * by later runs; 50M rows take several GB and a long time to build. The database is set with
+ * {@code -Dbench.db.url}, {@code -Dbench.db.user} and {@code -Dbench.db.password}, passed through
+ * JMH, e.g. {@code -Djmh.args="PartySearch -jvmArgsAppend -Dbench.db.url=jdbc:postgresql://host/db"}.
+ *
+ * Last names are built from three of twenty syllables, so each of the 8000 names is shared by
+ * rows / 8000 parties; first names come from a list of 32, so a first-name search matches
+ * rows / 32 parties and shows the cost that {@code app.party.search.timeout} caps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PartySearchBenchmark {
+
+    private static final int LOAD_CHUNK = 1_000_000;
+    private static final int LIMIT = 20;
+    private static final double MIN_SIMILARITY = 0.5;
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    private static final String SYLLABLES = "ARRAY['bar','ker','lin','dos','mat','ven','hol','rig','sta','ton',"
+            + "'mel','cor','fan','gus','pri','wal','del','sor','nik','beth']";
+    private static final String FIRST_NAMES = "ARRAY['James','Mary','Robert','Patricia','John','Jennifer','Michael',"
+            + "'Linda','David','Elizabeth','William','Barbara','Richard','Susan','Joseph','Jessica','Thomas','Sarah',"
+            + "'Charles','Karen','Daniel','Lisa','Matthew','Nancy','Anthony','Betty','Mark','Sandra','Steven',"
+            + "'Ashley','Andrew','Emily']";
+
+    @Param({"1000000", "10000000", "50000000"})
+    private int rows;
+
+    private SingleConnectionDataSource dataSource;
+    private PartySearchRepository repository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5432/postgres"),
+                System.getProperty("bench.db.user", "postgres"),
+                System.getProperty("bench.db.password", "postgres"),
+                true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String schema = "party_search_bench_" + rows;
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+        jdbcTemplate.execute("SET search_path TO " + schema + ", public");
+        load(jdbcTemplate);
+        repository = new PartySearchRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(true);
+    }
+
+    private void load(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                CREATE UNLOGGED TABLE IF NOT EXISTS party (
+                    id              BIGINT       PRIMARY KEY,
+                    cust_first_name VARCHAR(100) NOT NULL,
+                    cust_last_name  VARCHAR(100) NOT NULL,
+                    email_id        VARCHAR(255) NOT NULL,
+                    phone_no        VARCHAR(20)  NOT NULL,
+                    version         BIGINT       NOT NULL DEFAULT 0
+                )""");
+        Long loaded = jdbcTemplate.queryForObject("SELECT count(*) FROM party", Long.class);
+        if (loaded != null && loaded >= rows) {
+            return;
+        }
+        jdbcTemplate.execute("TRUNCATE party");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_party_first_name_trgm");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_party_last_name_trgm");
+        for (long from = 1; from <= rows; from += LOAD_CHUNK) {
+            long to = Math.min(rows, from + LOAD_CHUNK - 1);
+            jdbcTemplate.update("INSERT INTO party (id, cust_first_name, cust_last_name, email_id, phone_no) "
+                    + "SELECT i, (" + FIRST_NAMES + ")[1 + (i * 7919) % 32], "
+                    + "initcap((" + SYLLABLES + ")[1 + i % 20] || (" + SYLLABLES + ")[1 + (i / 20) % 20] || ("
+                    + SYLLABLES + ")[1 + (i / 400) % 20]), "
+                    + "'bench.' || i || '@example.com', lpad(i::text, 10, '0') "
+                    + "FROM generate_series(?::bigint, ?::bigint) AS i", from, to);
+            System.out.printf("%nLoaded %d of %d parties%n", to, rows);
+        }
+        jdbcTemplate.execute("CREATE INDEX idx_party_first_name_trgm ON party USING gin (cust_first_name gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX idx_party_last_name_trgm ON party USING gin (cust_last_name gin_trgm_ops)");
+        jdbcTemplate.execute("ANALYZE party");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    private List<PartyResponse> search(String term) {
+        return transactionTemplate.execute(status -> repository.search(term, LIMIT, MIN_SIMILARITY, TIMEOUT));
+    }
+
+    @Benchmark
+    public List<PartyResponse> fullLastName() {
+        return search("Kerlinbar");
+    }
+
+    @Benchmark
+    public List<PartyResponse> partialLastName() {
+        return search("Venhol");
+    }
+
+    @Benchmark
+    public List<PartyResponse> misspelledLastName() {
+        return search("Kerlimbar");
+    }
+
+    @Benchmark
+    public List<PartyResponse> unknownName() {
+        return search("Zyxwquv");
+    }
+
+    @Benchmark
+    public List<PartyResponse> commonFirstName() {
+        return search("Jennifer");
+    }
+}
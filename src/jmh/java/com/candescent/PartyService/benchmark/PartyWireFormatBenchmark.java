@@ -0,0 +1,117 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.config.JacksonConfig;
+import com.candescent.PartyService.dto.common.ServiceRequest;
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.json.PartyJsonModule;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON with the CBOR and Smile encodings offered to internal callers, using Jackson 3
+ * mappers with the party envelope codecs as {@link JacksonConfig} sets them up: writing a single {@code ServiceResponse<PartyResponse>} and a
+ * 100-party {@code ServiceResponse<List<PartyResponse>>}, and reading a create request and a
+ * 100-party batch create request. The encoded size of each payload is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartyWireFormatBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter partyWriter;
+    private ObjectWriter listWriter;
+    private ObjectReader requestReader;
+    private ObjectReader batchReader;
+    private ServiceResponse<PartyResponse> party;
+    private ServiceResponse<List<PartyResponse>> list;
+    private byte[] requestBytes;
+    private byte[] batchBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().addModule(new PartyJsonModule()).build();
+            case "smile" -> SmileMapper.builder().addModule(new PartyJsonModule()).build();
+            default -> {
+                JsonMapper.Builder builder = JsonMapper.builder();
+                new JacksonConfig().partyJsonCodecs().customize(builder);
+                yield builder.build();
+            }
+        };
+        partyWriter = mapper.writerFor(new TypeReference<ServiceResponse<PartyResponse>>() {
+        });
+        listWriter = mapper.writerFor(new TypeReference<ServiceResponse<List<PartyResponse>>>() {
+        });
+        requestReader = mapper.readerFor(new TypeReference<ServiceRequest<PartyRequest>>() {
+        });
+        batchReader = mapper.readerFor(new TypeReference<ServiceRequest<List<PartyRequest>>>() {
+        });
+
+        party = ServiceResponse.success(BenchmarkData.partyResponse(), "Party retrieved successfully");
+        List<PartyResponse> parties = new ArrayList<>(LIST_SIZE);
+        List<PartyRequest> requests = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            PartyRequest request = PartyRequest.builder()
+                    .custFirstName("John" + i)
+                    .custLastName("Doe")
+                    .emailId("john.doe." + i + "@mail.example.com")
+                    .phoneNo("+1 (555) 010-" + (2000 + i))
+                    .build();
+            requests.add(request);
+            parties.add(PartyResponse.builder()
+                    .id(String.valueOf(1_000_000 + i))
+                    .custFirstName(request.getCustFirstName())
+                    .custLastName(request.getCustLastName())
+                    .emailId(request.getEmailId())
+                    .phoneNo(request.getPhoneNo())
+                    .build());
+        }
+        list = ServiceResponse.success(parties, "Parties retrieved successfully");
+        requestBytes = mapper.writeValueAsBytes(ServiceRequest.of(BenchmarkData.partyRequest()));
+        batchBytes = mapper.writeValueAsBytes(ServiceRequest.of(requests));
+        System.out.printf("%n%s: response %d bytes, %d-party response %d bytes, request %d bytes, "
+                        + "%d-party request %d bytes%n", format, partyWriter.writeValueAsBytes(party).length,
+                LIST_SIZE, listWriter.writeValueAsBytes(list).length, requestBytes.length, LIST_SIZE,
+                batchBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeParty() {
+        return partyWriter.writeValueAsBytes(party);
+    }
+
+    @Benchmark
+    public byte[] writeList() {
+        return listWriter.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public ServiceRequest<PartyRequest> readRequest() {
+        return requestReader.readValue(requestBytes);
+    }
+
+    @Benchmark
+    public ServiceRequest<List<PartyRequest>> readBatch() {
+        return batchReader.readValue(batchBytes);
+    }
+}
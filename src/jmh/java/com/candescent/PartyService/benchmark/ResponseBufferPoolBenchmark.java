@@ -0,0 +1,89 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.config.JacksonConfig;
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.core.util.BufferRecycler;
+import tools.jackson.core.util.JsonRecyclerPools;
+import tools.jackson.core.util.RecyclerPool;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the buffer pools Jackson can take its generator buffers from, writing response
+ * envelopes with the Jackson 3 JsonMapper and codecs of {@link JacksonConfig} to a stream the way
+ * the HTTP message converter does. Run with {@code -prof gc} (the default) to see the bytes
+ * allocated per response.
+ *
+ * {@code deque} is Jackson 3's default, which the HTTP converters use: one pool shared by all
+ * threads. {@code bounded} is the shared pool JacksonConfig sets on the Jackson 2 ObjectMapper.
+ * {@code threadLocal} is the Jackson 2 default, which behaves like them for a platform thread
+ * serving many requests. {@code none} is what that default degrades to when each request runs on
+ * a new virtual thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ResponseBufferPoolBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    @Param({"deque", "bounded", "threadLocal", "none"})
+    private String pool;
+
+    // Discards everything and stays usable after close, like the converter's non-closing body
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private ObjectWriter partyWriter;
+    private ObjectWriter listWriter;
+    private ServiceResponse<PartyResponse> party;
+    private ServiceResponse<List<PartyResponse>> list;
+
+    @Setup
+    public void setUp() {
+        RecyclerPool<BufferRecycler> recyclerPool = switch (pool) {
+            case "bounded" -> JsonRecyclerPools.sharedBoundedPool();
+            case "threadLocal" -> JsonRecyclerPools.threadLocalPool();
+            case "none" -> JsonRecyclerPools.nonRecyclingPool();
+            default -> JsonRecyclerPools.defaultPool();
+        };
+        JsonMapper.Builder builder = JsonMapper.builder(JsonFactory.builder().recyclerPool(recyclerPool).build());
+        new JacksonConfig().partyJsonCodecs().customize(builder);
+        JsonMapper jsonMapper = builder.build();
+        partyWriter = jsonMapper.writerFor(new TypeReference<ServiceResponse<PartyResponse>>() {
+        });
+        listWriter = jsonMapper.writerFor(new TypeReference<ServiceResponse<List<PartyResponse>>>() {
+        });
+        party = ServiceResponse.success(BenchmarkData.partyResponse(), "Party retrieved successfully");
+        list = ServiceResponse.success(BenchmarkData.partyResponses(LIST_SIZE), "Parties retrieved successfully");
+    }
+
+    @Benchmark
+    public void writeParty() {
+        partyWriter.writeValue(sink, party);
+    }
+
+    @Benchmark
+    public void writeList() {
+        listWriter.writeValue(sink, list);
+    }
+}
@@ -0,0 +1,87 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.config.JacksonConfig;
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.entities.PartyEntity;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.candescent.PartyService.export.PartyExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures the CPU that {@code server.compression} spends on typical party payloads, and prints
+ * the bytes it saves, so the two can be weighed against each other.
+ *
+ * Each payload is compressed the way Tomcat's gzip filter does it: a new sync-flushing
+ * {@link GZIPOutputStream} at the default level per response. {@code export} is one flush of the
+ * NDJSON export (1000 rows); a full export costs that once per 1000 rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseCompressionBenchmark {
+
+    private static final int LIST_SIZE = 100;
+    private static final int EXPORT_ROWS = 1000;
+
+    @Param({"party", "list", "export"})
+    private String payload;
+
+    // Discards everything and stays usable after close, like the converter's non-closing body
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        body = switch (payload) {
+            case "list" -> objectMapper.writeValueAsBytes(ServiceResponse.success(
+                    BenchmarkData.partyResponses(LIST_SIZE), "Parties retrieved successfully"));
+            case "export" -> export(objectMapper);
+            default -> objectMapper.writeValueAsBytes(ServiceResponse.success(
+                    BenchmarkData.partyResponse(), "Party retrieved successfully"));
+        };
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, true)) {
+            gzip.write(body);
+        }
+        System.out.printf("%n%s: %d bytes, %d gzipped (%.0f%% saved)%n", payload, body.length, compressed.size(),
+                100.0 * (body.length - compressed.size()) / body.length);
+    }
+
+    private static byte[] export(ObjectMapper objectMapper) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PartyExportWriter writer = PartyExportWriter.create(PartyExportFormat.NDJSON, objectMapper.getFactory(), out)) {
+            for (PartyEntity party : BenchmarkData.partyEntities(EXPORT_ROWS)) {
+                writer.write(party);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public void gzip() throws IOException {
+        try (GZIPOutputStream gzip = new GZIPOutputStream(sink, true)) {
+            gzip.write(body);
+        }
+    }
+}
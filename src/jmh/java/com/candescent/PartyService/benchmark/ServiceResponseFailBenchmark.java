@@ -0,0 +1,42 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building failure envelopes, including error description truncation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceResponseFailBenchmark {
+
+    private String shortMessage;
+    private String longMessage;
+
+    @Setup
+    public void setUp() {
+        shortMessage = "Requested resource not found";
+        longMessage = "Validation failed: " + "Invalid email format; ".repeat(10);
+    }
+
+    @Benchmark
+    public ServiceResponse<Void> failShort() {
+        return ServiceResponse.fail(shortMessage);
+    }
+
+    @Benchmark
+    public ServiceResponse<Void> failTruncated() {
+        return ServiceResponse.fail(longMessage);
+    }
+
+    @Benchmark
+    public ServiceResponse<Void> failNull() {
+        return ServiceResponse.fail(null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.candescent.PartyService.benchmark;
+
+import com.candescent.PartyService.index.TypeaheadIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures top-10 prefix lookups through {@link TypeaheadIndex} holding the first and last names
+ * of 1M and 10M synthetic parties, including normalization of the prefix. The index's names,
+ * entries and estimated heap per party are printed once it is filled.
+ *
+ * First names are two of twenty syllables (400 names) and last names two to four (168,400 names),
+ * drawn so that a few names are common and most are rare, as in real data. One-letter prefixes
+ * match thousands of names, three-letter prefixes a few hundred, and misses none.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TypeaheadIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"bar", "ker", "lin", "dos", "mat", "ven", "hol", "rig", "sta", "ton",
+            "mel", "cor", "fan", "gus", "pri", "wal", "del", "sor", "nik", "beth"};
+    private static final int PREFIXES = 1024;
+    private static final int LIMIT = 10;
+    private static final int IDS_PER_NAME = 5;
+
+    @Param({"1000000", "10000000"})
+    private int parties;
+
+    private TypeaheadIndex index;
+    private String[] oneLetterPrefixes;
+    private String[] threeLetterPrefixes;
+    private String[] fullNames;
+    private String[] absentPrefixes;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new TypeaheadIndex();
+        for (int id = 1; id <= parties; id++) {
+            index.add(firstName(random), id);
+            index.add(lastName(random), id);
+        }
+        index.trimToSize();
+        oneLetterPrefixes = new String[PREFIXES];
+        threeLetterPrefixes = new String[PREFIXES];
+        fullNames = new String[PREFIXES];
+        absentPrefixes = new String[PREFIXES];
+        for (int i = 0; i < PREFIXES; i++) {
+            String name = lastName(random);
+            oneLetterPrefixes[i] = name.substring(0, 1);
+            threeLetterPrefixes[i] = name.substring(0, 3).toLowerCase();
+            fullNames[i] = name.toUpperCase();
+            absentPrefixes[i] = "zq" + name.substring(1, 3);
+        }
+        System.out.printf("%nTypeaheadIndex: %d parties, %d names, %d entries, %d bytes, %.1f bytes per party%n",
+                parties, index.names(), index.entries(), index.memoryBytes(),
+                (double) index.memoryBytes() / parties);
+    }
+
+    private static String firstName(SplittableRandom random) {
+        return capitalize(syllable(random) + syllable(random));
+    }
+
+    private static String lastName(SplittableRandom random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            name.append(syllable(random));
+        }
+        return capitalize(name.toString());
+    }
+
+    /**
+     * A syllable skewed towards the start of the list, so some names are far more common than others.
+     */
+    private static String syllable(SplittableRandom random) {
+        int a = random.nextInt(SYLLABLES.length);
+        return SYLLABLES[Math.min(a, random.nextInt(SYLLABLES.length))];
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String pick(String[] prefixes) {
+        return prefixes[ThreadLocalRandom.current().nextInt(PREFIXES)];
+    }
+
+    @Benchmark
+    public List<TypeaheadIndex.Match> oneLetterPrefix() {
+        return index.findByPrefix(pick(oneLetterPrefixes), LIMIT, IDS_PER_NAME);
+    }
+
+    @Benchmark
+    public List<TypeaheadIndex.Match> threeLetterPrefix() {
+        return index.findByPrefix(pick(threeLetterPrefixes), LIMIT, IDS_PER_NAME);
+    }
+
+    @Benchmark
+    public List<TypeaheadIndex.Match> fullName() {
+        return index.findByPrefix(pick(fullNames), LIMIT, IDS_PER_NAME);
+    }
+
+    @Benchmark
+    public List<TypeaheadIndex.Match> missingPrefix() {
+        return index.findByPrefix(pick(absentPrefixes), LIMIT, IDS_PER_NAME);
+    }
+}
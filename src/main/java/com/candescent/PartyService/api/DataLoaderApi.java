@@ -0,0 +1,127 @@
+package com.candescent.PartyService.api;
+
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.response.PartyImportJobResponse;
+import com.candescent.PartyService.dto.response.PartyImportRejection;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Tag(name = "Data Loader", description = "Bulk party imports")
+@RequestMapping("/v1/data-loader/party")
+public interface DataLoaderApi {
+
+    @Operation(
+            summary = "Import parties from a file",
+            description = "Accepts a CSV (with header row) or NDJSON upload and imports it into the party table "
+                    + "in the background. Rows are validated, deduplicated within the file and merged; rows that "
+                    + "fail are listed in the job's rejections. Poll the returned job for progress"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Import accepted; the Location header points at the job",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported format",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many imports in progress",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/octet-stream"})
+    ResponseEntity<ServiceResponse<PartyImportJobResponse>> importParties(
+            @RequestParam(value = "format", required = false) String format,
+            @Parameter(hidden = true) @RequestHeader(value = "Content-Type", required = false) String contentType,
+            @Parameter(hidden = true) InputStream body
+    ) throws IOException;
+
+    @Operation(
+            summary = "List import jobs",
+            description = "Lists the retained import jobs, most recent first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import jobs retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/import")
+    ServiceResponse<List<PartyImportJobResponse>> listImportJobs();
+
+    @Operation(
+            summary = "Get import job progress",
+            description = "Retrieves the status and row counts of an import job"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import job retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Import job not found",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/import/{jobId}")
+    ServiceResponse<PartyImportJobResponse> getImportJob(@PathVariable("jobId") String jobId);
+
+    @Operation(
+            summary = "Get rejected rows of an import job",
+            description = "Lists the rows of an import file that were not imported, with the reason, in line "
+                    + "order. Pass the last line received as afterLine to fetch the next page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Rejected rows retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Import job not found",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/import/{jobId}/rejections")
+    ServiceResponse<List<PartyImportRejection>> getImportRejections(
+            @PathVariable("jobId") String jobId,
+            @RequestParam(value = "afterLine", required = false) Long afterLine,
+            @RequestParam(value = "size", required = false) Integer size
+    );
+}
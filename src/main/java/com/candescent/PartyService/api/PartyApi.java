@@ -3,14 +3,30 @@ package com.candescent.PartyService.api;
 import com.candescent.PartyService.dto.common.ServiceRequest;
 import com.candescent.PartyService.dto.common.ServiceResponse;
 import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyBatchResult;
+import com.candescent.PartyService.dto.response.PartyChangePage;
+import com.candescent.PartyService.dto.response.PartyLookupResponse;
+import com.candescent.PartyService.dto.response.PartyPageResponse;
 import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.dto.response.PartySuggestion;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Party Service", description = "Party details")
 @RequestMapping("/v1/party")
@@ -48,9 +64,38 @@ public interface PartyApi {
     @PostMapping
     ServiceResponse<PartyResponse> createParty(@RequestBody ServiceRequest<PartyRequest> request);
 
+    @Operation(
+            summary = "Create parties in bulk",
+            description = "Creates many party (customer) records in one call. Each item is validated and "
+                    + "persisted independently, so one bad row does not fail the whole batch"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see per-item results",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PostMapping("/batch")
+    ServiceResponse<List<PartyBatchResult>> createParties(@RequestBody ServiceRequest<List<PartyRequest>> request);
+
     @Operation(
             summary = "Update an existing party",
-            description = "Updates an existing party (customer) record in the system by ID"
+            description = "Updates an existing party (customer) record in the system by ID. "
+                    + "With If-Match the update applies only if the party's ETag still matches"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -76,6 +121,11 @@ public interface PartyApi {
                     description = "Conflict with existing data",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Party was modified since the If-Match ETag was read",
+                    content = @Content(mediaType = "application/json")
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error",
@@ -83,14 +133,206 @@ public interface PartyApi {
             )
     })
     @PutMapping("/{id}")
-    ServiceResponse<PartyResponse> updateParty(
+    ResponseEntity<ServiceResponse<PartyResponse>> updateParty(
             @PathVariable("id") Long id,
-            @RequestBody ServiceRequest<PartyRequest> request
+            @RequestBody ServiceRequest<PartyRequest> request,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestHeader(value = "Accept", required = false) String accept
+    ) throws HttpMediaTypeNotAcceptableException;
+
+    @Operation(
+            summary = "List parties",
+            description = "Lists parties in customer ID order using keyset pagination. Pass the returned "
+                    + "nextAfterId as afterId to fetch the next page; optional filters on last name and email domain"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Parties retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid paging or filter parameters",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping
+    ServiceResponse<PartyPageResponse> listParties(
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "lastName", required = false) String lastName,
+            @RequestParam(value = "emailDomain", required = false) String emailDomain
+    );
+
+    @Operation(
+            summary = "Search parties by name",
+            description = "Finds parties whose first or last name contains the search term or a close misspelling "
+                    + "of it, best match first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Parties retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid search term or limit",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Search took too long",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/search")
+    ServiceResponse<List<PartyResponse>> searchParties(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+
+    @Operation(
+            summary = "Suggest party names",
+            description = "Completes the start of a first or last name from an in-process index, in alphabetical "
+                    + "order, with the number of parties having each name and the lowest of their customer IDs"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Suggestions retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid prefix or limit",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Typeahead disabled or still warming up",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/typeahead")
+    ServiceResponse<List<PartySuggestion>> suggestParties(
+            @RequestParam(value = "prefix", required = false) String prefix,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+
+    @Operation(
+            summary = "Export all parties",
+            description = "Streams every party in customer ID order as NDJSON (default) or CSV. "
+                    + "An interrupted download resumes by passing the last id received as afterId"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Parties streamed",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported format or invalid afterId",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/export")
+    void exportParties(
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException;
+
+    @Operation(
+            summary = "Get party changes",
+            description = "Returns created and updated parties in commit order, after the position given as since. "
+                    + "Resume by passing the returned nextSince. With waitSeconds, a poll that finds no change "
+                    + "waits up to that long for one before returning an empty page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid since, limit or waitSeconds",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/changes")
+    CompletableFuture<ServiceResponse<PartyChangePage>> getChanges(
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "waitSeconds", required = false) Integer waitSeconds
+    );
+
+    @Operation(
+            summary = "Stream party changes",
+            description = "Server-Sent Events stream with a change event (custId, version, type) for every created "
+                    + "or updated party, in commit order. Event ids are change feed positions: a client reconnecting "
+                    + "with Last-Event-ID is sent the changes it missed, or a reset event telling it to discard its "
+                    + "cache when it is too far behind or could not keep up"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Change stream opened",
+                    content = @Content(mediaType = "text/event-stream")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid Last-Event-ID",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many subscribers on this node",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     );
 
     @Operation(
             summary = "Get party by customer ID",
-            description = "Retrieves a party (customer) record by customer ID"
+            description = "Retrieves a party (customer) record by customer ID. "
+                    + "Returns 304 without a body when If-None-Match holds the party's current ETag"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -101,6 +343,10 @@ public interface PartyApi {
                             schema = @Schema(implementation = ServiceResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Party not modified since the If-None-Match ETag"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid customer ID",
@@ -118,5 +364,105 @@ public interface PartyApi {
             )
     })
     @GetMapping("/customer/{custId}")
-    ServiceResponse<PartyResponse> getPartyByCustId(@PathVariable("custId") Long custId);
+    ResponseEntity<ServiceResponse<PartyResponse>> getPartyByCustId(
+            @PathVariable("custId") Long custId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+            @RequestHeader(value = "Accept", required = false) String accept
+    ) throws HttpMediaTypeNotAcceptableException;
+
+    @Operation(
+            summary = "Get party by email",
+            description = "Retrieves a party (customer) record by email, matched case-insensitively"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Party retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid email",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Party not found",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/email/{emailId}")
+    ServiceResponse<PartyResponse> getPartyByEmail(@PathVariable("emailId") String emailId);
+
+    @Operation(
+            summary = "Get party by phone number",
+            description = "Retrieves a party (customer) record by phone number, matched on its digits only"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Party retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid phone number",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Party not found",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/phone/{phoneNo}")
+    ServiceResponse<PartyResponse> getPartyByPhone(@PathVariable("phoneNo") String phoneNo);
+
+    @Operation(
+            summary = "Look up many parties by customer ID",
+            description = "Retrieves the parties for a list of customer IDs in one call. The response is "
+                    + "streamed; ids that do not exist are listed in missingIds instead of failing the call"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Parties retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PartyLookupResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized customer ID list",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "406",
+                    description = "Accept does not allow JSON; the lookup is not available in CBOR or Smile"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PostMapping(value = "/customer/lookup", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<StreamingResponseBody> lookupParties(@RequestBody ServiceRequest<List<Long>> request);
 }
@@ -0,0 +1,116 @@
+package com.candescent.PartyService.aspect;
+
+import com.candescent.PartyService.common.util.StringUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records per-layer request timings as {@code party.layer.duration} timers and logs slow calls.
+ *
+ * Timers are created once per call site and cached, so recording a call is a map lookup and an
+ * atomic update. Slow calls are logged at most once per {@code logging.aspect.slow-log-interval-ms};
+ * the calls skipped in between are counted and reported with the next logged one.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "logging.aspect.enabled", havingValue = "true")
+public class LayerTimers {
+
+    private static final String METRIC_NAME = "party.layer.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Map<Object, Timer>> timers = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+    private final long slowLogIntervalNanos;
+    private final boolean includeArgs;
+    private final int maxArgLength;
+    private final AtomicLong lastSlowLogNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+    private final AtomicLong suppressedSlowCalls = new AtomicLong();
+
+    public LayerTimers(MeterRegistry meterRegistry,
+                       @Value("${logging.aspect.slow-threshold-ms:1000}") long slowThresholdMs,
+                       @Value("${logging.aspect.slow-log-interval-ms:1000}") long slowLogIntervalMs,
+                       @Value("${logging.aspect.include-args:false}") boolean includeArgs,
+                       @Value("${logging.aspect.max-arg-length:500}") int maxArgLength) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.slowLogIntervalNanos = TimeUnit.MILLISECONDS.toNanos(slowLogIntervalMs);
+        this.includeArgs = includeArgs;
+        this.maxArgLength = maxArgLength;
+    }
+
+    /**
+     * Find the timer of a call site.
+     *
+     * @param owner    the invoked bean type
+     * @param callSite the invoked method or other stable call site key
+     * @return the timer, or null if the call site has not been seen yet
+     */
+    public Timer find(Class<?> owner, Object callSite) {
+        Map<Object, Timer> ownerTimers = timers.get(owner);
+        return ownerTimers == null ? null : ownerTimers.get(callSite);
+    }
+
+    /**
+     * Register the timer of a call site.
+     *
+     * @param owner     the invoked bean type
+     * @param callSite  the invoked method or other stable call site key
+     * @param layer     the layer tag (controller, validation, service, repository, mapper, serialization)
+     * @param operation the operation tag
+     * @return the timer
+     */
+    public Timer register(Class<?> owner, Object callSite, String layer, String operation) {
+        return timers.computeIfAbsent(owner, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(callSite, key -> Timer.builder(METRIC_NAME)
+                        .description("Time spent in each layer of a party request")
+                        .tag("layer", layer)
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Record one call.
+     *
+     * @param timer the call site timer
+     * @param nanos the elapsed time
+     * @return true if the call exceeded {@code logging.aspect.slow-threshold-ms}
+     */
+    public boolean record(Timer timer, long nanos) {
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        return nanos >= slowThresholdNanos;
+    }
+
+    /**
+     * Log a slow call, subject to sampling.
+     *
+     * @param timer the call site timer
+     * @param nanos the elapsed time
+     * @param args  the call arguments, rendered when {@code logging.aspect.include-args=true}
+     */
+    public void logSlowCall(Timer timer, long nanos, Object[] args) {
+        long now = System.nanoTime();
+        long last = lastSlowLogNanos.get();
+        if (now - last < slowLogIntervalNanos || !lastSlowLogNanos.compareAndSet(last, now)) {
+            suppressedSlowCalls.incrementAndGet();
+            return;
+        }
+        long suppressed = suppressedSlowCalls.getAndSet(0);
+        String renderedArgs = includeArgs && args != null
+                ? StringUtils.truncateWithEllipsis(Arrays.toString(args), maxArgLength)
+                : "";
+        log.warn("Slow {} call {} took {} ms {} ({} slow calls not logged since last report)",
+                timer.getId().getTag("layer"), timer.getId().getTag("operation"), TimeUnit.NANOSECONDS.toMillis(nanos), renderedArgs, suppressed);
+    }
+}
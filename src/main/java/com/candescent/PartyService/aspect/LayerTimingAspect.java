@@ -0,0 +1,85 @@
+package com.candescent.PartyService.aspect;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Times each layer of a party request: controller, validation, service, repository and mapper.
+ *
+ * The aspect is only registered when {@code logging.aspect.enabled=true}; when disabled the beans
+ * are not proxied at all, so the request path carries no instrumentation cost.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "logging.aspect.enabled", havingValue = "true")
+public class LayerTimingAspect {
+
+    private final LayerTimers layerTimers;
+
+    @Around("within(com.candescent.PartyService.controller..*) && execution(public * *(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("controller", joinPoint);
+    }
+
+    @Around("within(com.candescent.PartyService.validation..*) && execution(public * *(..))")
+    public Object timeValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("validation", joinPoint);
+    }
+
+    @Around("within(com.candescent.PartyService.service..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("service", joinPoint);
+    }
+
+    @Around("this(org.springframework.data.repository.Repository) "
+            + "|| (within(com.candescent.PartyService.repository..*) && execution(public * *(..)))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("repository", joinPoint);
+    }
+
+    @Around("within(com.candescent.PartyService.mapper..*) && execution(public * *(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("mapper", joinPoint);
+    }
+
+    private Object time(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Class<?> owner = joinPoint.getThis().getClass();
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            Timer timer = layerTimers.find(owner, method);
+            if (timer == null) {
+                timer = layerTimers.register(owner, method, layer, operationName(joinPoint, method));
+            }
+            if (layerTimers.record(timer, elapsed)) {
+                layerTimers.logSlowCall(timer, elapsed, joinPoint.getArgs());
+            }
+        }
+    }
+
+    private static String operationName(ProceedingJoinPoint joinPoint, Method method) {
+        Class<?> type = joinPoint.getSignature().getDeclaringType();
+        if (type.getName().startsWith("org.springframework.")) {
+            // Inherited repository methods such as findById: name them after the application repository
+            for (Class<?> candidate : joinPoint.getThis().getClass().getInterfaces()) {
+                if (candidate.getName().startsWith("com.candescent.")) {
+                    type = candidate;
+                    break;
+                }
+            }
+        }
+        return type.getSimpleName() + "." + method.getName();
+    }
+}
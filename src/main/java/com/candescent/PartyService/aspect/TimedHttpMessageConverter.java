@@ -0,0 +1,125 @@
+package com.candescent.PartyService.aspect;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.SmartHttpMessageConverter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator that times response serialization of another message converter, per payload type
+ * and format. Reading passes straight through to the wrapped converter.
+ */
+public class TimedHttpMessageConverter implements SmartHttpMessageConverter<Object> {
+
+    private final HttpMessageConverter<Object> delegate;
+    private final String format;
+    private final LayerTimers layerTimers;
+
+    /**
+     * @param delegate    the converter that reads and writes the bodies
+     * @param format      the format name used in the operation tag, such as {@code json}
+     * @param layerTimers the timers to record into
+     */
+    @SuppressWarnings("unchecked")
+    public TimedHttpMessageConverter(HttpMessageConverter<?> delegate, String format, LayerTimers layerTimers) {
+        this.delegate = (HttpMessageConverter<Object>) delegate;
+        this.format = format;
+        this.layerTimers = layerTimers;
+    }
+
+    @Override
+    public boolean canRead(ResolvableType type, MediaType mediaType) {
+        if (delegate instanceof SmartHttpMessageConverter<?> smart) {
+            return smart.canRead(type, mediaType);
+        }
+        return delegate.canRead(type.toClass(), mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object read(ResolvableType type, HttpInputMessage inputMessage, Map<String, Object> hints)
+            throws IOException {
+        if (delegate instanceof SmartHttpMessageConverter<?> smart) {
+            return ((SmartHttpMessageConverter<Object>) smart).read(type, inputMessage, hints);
+        }
+        return delegate.read((Class<Object>) type.toClass(), inputMessage);
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return delegate.read(clazz, inputMessage);
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType targetType, Class<?> valueClass, MediaType mediaType) {
+        if (delegate instanceof SmartHttpMessageConverter<?> smart) {
+            return smart.canWrite(targetType, valueClass, mediaType);
+        }
+        return delegate.canWrite(valueClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return delegate.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(Object value, ResolvableType type, MediaType contentType, HttpOutputMessage outputMessage,
+                      Map<String, Object> hints) throws IOException {
+        long start = System.nanoTime();
+        try {
+            if (delegate instanceof SmartHttpMessageConverter<?> smart) {
+                ((SmartHttpMessageConverter<Object>) smart).write(value, type, contentType, outputMessage, hints);
+            } else {
+                delegate.write(value, contentType, outputMessage);
+            }
+        } finally {
+            record(value, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void write(Object value, MediaType contentType, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(value, contentType, outputMessage);
+        } finally {
+            record(value, System.nanoTime() - start);
+        }
+    }
+
+    private void record(Object value, long nanos) {
+        Class<?> valueType = value.getClass();
+        Timer timer = layerTimers.find(delegate.getClass(), valueType);
+        if (timer == null) {
+            timer = layerTimers.register(delegate.getClass(), valueType, "serialization",
+                    valueType.getSimpleName() + "." + format);
+        }
+        if (layerTimers.record(timer, nanos)) {
+            layerTimers.logSlowCall(timer, nanos, null);
+        }
+    }
+}
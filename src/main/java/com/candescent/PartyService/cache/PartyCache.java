@@ -0,0 +1,177 @@
+package com.candescent.PartyService.cache;
+
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache of party snapshots keyed by custId.
+ *
+ * Writes are applied in two steps: the entry is evicted as soon as the write happens inside
+ * the transaction, and the committed snapshot is published once the transaction commits.
+ * A reader racing the write can only repopulate the old committed row, which the
+ * after-commit put then overwrites, so no reader sees stale data after the commit returns.
+ *
+ * A second, larger cache keeps only each party's optimistic lock version, so conditional
+ * GETs can be answered with {@code 304 Not Modified} for many more parties than fit in the
+ * snapshot cache, without loading them. It is maintained by the same write hooks.
+ */
+@Slf4j
+@Component
+public class PartyCache {
+
+    private static final String CACHE_NAME = "party";
+    private static final String VERSION_CACHE_NAME = "party-version";
+
+    private final boolean enabled;
+    private final Cache<Long, PartyResponse> cache;
+    private final Cache<Long, Long> versions;
+
+    public PartyCache(@Value("${app.party.cache.enabled:true}") boolean enabled,
+                      @Value("${app.party.cache.maximum-size:100000}") long maximumSize,
+                      @Value("${app.party.cache.ttl:10m}") Duration ttl,
+                      @Value("${app.party.cache.version-maximum-size:1000000}") long versionMaximumSize,
+                      MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(versionMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, VERSION_CACHE_NAME);
+        log.info("Party cache initialized: enabled={}, maximumSize={}, versionMaximumSize={}, ttl={}",
+                enabled, maximumSize, versionMaximumSize, ttl);
+    }
+
+    /**
+     * Get a party from the cache, loading it on a miss.
+     *
+     * @param custId the customer ID
+     * @param loader loads the party when it is not cached
+     * @return the cached or freshly loaded party
+     */
+    public PartyResponse get(Long custId, Function<Long, PartyResponse> loader) {
+        if (!enabled) {
+            return loader.apply(custId);
+        }
+        return cache.get(custId, loader);
+    }
+
+    /**
+     * Get a party only if it is currently cached.
+     *
+     * @param custId the customer ID
+     * @return the cached party or null
+     */
+    public PartyResponse getIfPresent(Long custId) {
+        return enabled ? cache.getIfPresent(custId) : null;
+    }
+
+    /**
+     * Get the version of a party, from the cached snapshot, the version cache, or the loader.
+     *
+     * @param custId the customer ID
+     * @param loader loads the version when it is not cached
+     * @return the party's version
+     */
+    public Long getVersion(Long custId, Function<Long, Long> loader) {
+        if (!enabled) {
+            return loader.apply(custId);
+        }
+        PartyResponse cached = cache.getIfPresent(custId);
+        if (cached != null && cached.getVersion() != null) {
+            return cached.getVersion();
+        }
+        return versions.get(custId, loader);
+    }
+
+    /**
+     * Store a committed snapshot directly.
+     *
+     * @param party the party snapshot
+     */
+    public void put(PartyResponse party) {
+        if (enabled && party != null) {
+            store(Long.valueOf(party.getId()), party);
+        }
+    }
+
+    /**
+     * Evict the party now and store the new snapshot once the surrounding transaction commits.
+     * Outside a transaction the snapshot is stored immediately.
+     *
+     * @param party the party snapshot written by the current transaction
+     */
+    public void putAfterCommit(PartyResponse party) {
+        if (!enabled || party == null) {
+            return;
+        }
+        Long custId = Long.valueOf(party.getId());
+        cache.invalidate(custId);
+        versions.invalidate(custId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            store(custId, party);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    store(custId, party);
+                } else {
+                    cache.invalidate(custId);
+                    versions.invalidate(custId);
+                }
+            }
+        });
+    }
+
+    private void store(Long custId, PartyResponse party) {
+        cache.put(custId, party);
+        if (party.getVersion() != null) {
+            versions.put(custId, party.getVersion());
+        } else {
+            versions.invalidate(custId);
+        }
+    }
+
+    /**
+     * Evict a party if the cached copy is older than a version committed elsewhere. Loads of the
+     * party in flight finish before the eviction, so they cannot put back a stale copy after it.
+     *
+     * @param custId  the customer ID
+     * @param version the committed version
+     */
+    public void evictIfOlder(Long custId, long version) {
+        if (!enabled) {
+            return;
+        }
+        cache.asMap().computeIfPresent(custId,
+                (key, party) -> party.getVersion() != null && party.getVersion() >= version ? party : null);
+        versions.asMap().computeIfPresent(custId, (key, cached) -> cached >= version ? cached : null);
+    }
+
+    /**
+     * Drop every cached party.
+     */
+    public void clear() {
+        cache.invalidateAll();
+        versions.invalidateAll();
+    }
+}
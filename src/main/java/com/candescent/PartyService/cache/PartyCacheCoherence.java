@@ -0,0 +1,201 @@
+package com.candescent.PartyService.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Keeps the {@link PartyCache} of every instance coherent through PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * A party update sends a notification from its own transaction, which PostgreSQL delivers to
+ * every listening session only if the transaction commits. Each instance listens on a dedicated
+ * connection outside the pool and evicts the parties whose cached copy is older than the notified
+ * version, so its own notifications are no-ops.
+ *
+ * Notifications sent while an instance is disconnected are lost, so on reconnecting it clears the
+ * whole cache. Anything else missed is bounded by the cache TTL.
+ */
+@Slf4j
+@Component
+public class PartyCacheCoherence {
+
+    private static final String CHANNEL = "party_invalidation";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(:channel, :payload)";
+
+    private final PartyCache partyCache;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final Counter invalidations;
+    private final Counter reconnects;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection connection;
+
+    public PartyCacheCoherence(PartyCache partyCache,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.party.cache.coherence.enabled:false}") boolean enabled,
+                               @Value("${spring.datasource.url}") String url,
+                               @Value("${spring.datasource.username:}") String username,
+                               @Value("${spring.datasource.password:}") String password,
+                               @Value("${app.party.cache.coherence.poll-timeout:10s}") Duration pollTimeout,
+                               @Value("${app.party.cache.coherence.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.partyCache = partyCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.invalidations = Counter.builder("party.cache.coherence.notifications")
+                .description("Party invalidation notifications received from the database")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("party.cache.coherence.reconnects")
+                .description("Times the invalidation listener lost or failed to open its connection")
+                .register(meterRegistry);
+        Gauge.builder("party.cache.coherence.listening", this, coherence -> coherence.listening ? 1 : 0)
+                .description("Whether the invalidation listener is connected")
+                .register(meterRegistry);
+        log.info("Party cache coherence initialized: enabled={}, channel={}", enabled, CHANNEL);
+    }
+
+    /**
+     * Tell every instance that a party changed, once the current transaction commits.
+     *
+     * @param custId  the customer ID
+     * @param version the party's new version
+     */
+    public void publish(Long custId, long version) {
+        if (!enabled) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("channel", CHANNEL)
+                .addValue("payload", custId + ":" + version);
+        // pg_notify returns void; there is nothing to read
+        jdbcTemplate.query(NOTIFY_SQL, params, resultSet -> null);
+    }
+
+    /**
+     * @return true while the listener is connected and receiving notifications
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        Thread listener = new Thread(this::listen, "party-cache-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        closeQuietly(connection);
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection listenConnection = DriverManager.getConnection(url, username, password)) {
+                connection = listenConnection;
+                try (Statement statement = listenConnection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (connectedBefore) {
+                    // Notifications sent while disconnected are gone
+                    partyCache.clear();
+                    log.info("Party cache invalidation listener reconnected; cleared the party cache");
+                }
+                connectedBefore = true;
+                listening = true;
+                PGConnection pgConnection = listenConnection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications == null || notifications.length == 0) {
+                        // Notice a connection that died silently
+                        if (!listenConnection.isValid((int) pollTimeout.toSeconds())) {
+                            throw new SQLException("Invalidation listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        apply(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                listening = false;
+                if (!running) {
+                    return;
+                }
+                reconnects.increment();
+                log.warn("Party cache invalidation listener disconnected, reconnecting in {}: {}",
+                        reconnectDelay, e.getMessage());
+                if (!sleep(reconnectDelay)) {
+                    return;
+                }
+            }
+        }
+        listening = false;
+    }
+
+    private void apply(String payload) {
+        int separator = payload.indexOf(':');
+        try {
+            partyCache.evictIfOlder(Long.valueOf(payload.substring(0, separator)),
+                    Long.parseLong(payload.substring(separator + 1)));
+            invalidations.increment();
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed party invalidation notification: {}", payload);
+        }
+    }
+
+    private static boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close invalidation listener connection: {}", e.getMessage());
+        }
+    }
+}
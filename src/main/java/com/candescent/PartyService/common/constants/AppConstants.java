@@ -32,6 +32,8 @@ public final class AppConstants {
         public static final String VALIDATION_ERROR = "VALIDATION_ERROR";
         public static final String SERVICE_ERROR = "SERVICE_ERROR";
         public static final String EXTERNAL_SERVICE_ERROR = "EXTERNAL_SERVICE_ERROR";
+        public static final String SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
+        public static final String PRECONDITION_FAILED = "PRECONDITION_FAILED";
         public static final String INTERNAL_ERROR = "INTERNAL_ERROR";
 
         private ErrorCode() {}
@@ -43,6 +45,8 @@ public final class AppConstants {
     public static final class ErrorMessage {
         public static final String SERVICE_OPERATION_FAILED = "Service operation failed";
         public static final String RESOURCE_NOT_FOUND = "Requested resource not found";
+        public static final String RESOURCE_CONFLICT = "Request conflicts with existing data";
+        public static final String PRECONDITION_FAILED = "Resource was modified by another request";
         public static final String INVALID_REQUEST_PARAMS = "Invalid request parameters";
         public static final String REQUEST_PROCESSING_FAILED = "Request processing failed";
         public static final String UNEXPECTED_ERROR = "An unexpected error occurred";
@@ -5,6 +5,10 @@ import org.springframework.http.HttpStatus;
 
 /**
  * Base exception for all custom exceptions.
+ *
+ * Expected business outcomes (not found, conflict, validation) can be created without a stack
+ * trace: filling it is the dominant cost of throwing, and the trace carries no information for
+ * a failure that is reported to the client by status code.
  */
 @Getter
 public abstract class BaseException extends RuntimeException {
@@ -23,4 +27,15 @@ public abstract class BaseException extends RuntimeException {
         this.status = status;
         this.errorCode = errorCode;
     }
+
+    /**
+     * Create an exception with or without a stack trace.
+     * Stackless instances also disable suppression, so a single instance can be preallocated
+     * and rethrown safely from any thread.
+     */
+    protected BaseException(String message, HttpStatus status, String errorCode, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.status = status;
+        this.errorCode = errorCode;
+    }
 }
@@ -15,4 +15,15 @@ public class ConflictException extends BaseException {
     public ConflictException(String message, Throwable cause) {
         super(message, HttpStatus.CONFLICT, AppConstants.ErrorCode.CONFLICT, cause);
     }
+
+    private ConflictException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.CONFLICT, AppConstants.ErrorCode.CONFLICT, writableStackTrace);
+    }
+
+    /**
+     * Create an instance without a stack trace, for conflicts with existing data.
+     */
+    public static ConflictException stackless(String message) {
+        return new ConflictException(message, false);
+    }
 }
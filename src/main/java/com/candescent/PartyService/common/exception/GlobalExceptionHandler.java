@@ -5,7 +5,10 @@ import com.candescent.PartyService.dto.common.ServiceResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 /**
  * Global exception handler for REST API.
+ * Expected business outcomes are logged without stack traces; only unexpected failures log a trace.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -29,29 +33,53 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ServiceResponse<Void> handleResourceNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
-        log.error("Resource not found at {}: {}", request.getRequestURI(), ex.getMessage());
+        log.debug("Resource not found at {}: {}", request.getRequestURI(), ex.getMessage());
         return ServiceResponse.fail(AppConstants.ErrorMessage.RESOURCE_NOT_FOUND);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ServiceResponse<Void> handleConflictException(ConflictException ex, HttpServletRequest request) {
+        log.warn("Conflict at {}: {}", request.getRequestURI(), ex.getMessage());
+        return ServiceResponse.fail(AppConstants.ErrorMessage.RESOURCE_CONFLICT);
+    }
+
+    /**
+     * Optimistic locking failures that no service retried: another request changed the row first.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ServiceResponse<Void> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Concurrent modification at {}: {}", request.getRequestURI(), ex.getMessage());
+        return ServiceResponse.fail(AppConstants.ErrorMessage.RESOURCE_CONFLICT);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ServiceResponse<Void> handlePreconditionFailedException(PreconditionFailedException ex, HttpServletRequest request) {
+        log.warn("Precondition failed at {}: {}", request.getRequestURI(), ex.getMessage());
+        return ServiceResponse.fail(AppConstants.ErrorMessage.PRECONDITION_FAILED);
+    }
+
     @ExceptionHandler(BadRequestException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ServiceResponse<Void> handleBadRequestException(BadRequestException ex, HttpServletRequest request) {
-        log.error("Bad request at {}: {}", request.getRequestURI(), ex.getMessage());
+        log.warn("Bad request at {}: {}", request.getRequestURI(), ex.getMessage());
         return ServiceResponse.fail(AppConstants.ErrorMessage.INVALID_REQUEST_PARAMS);
     }
 
     @ExceptionHandler(ValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ServiceResponse<Void> handleValidationException(ValidationException ex, HttpServletRequest request) {
-        log.error("Validation error at {}: {}", request.getRequestURI(), ex.getMessage());
+        log.warn("Validation error at {}: {}", request.getRequestURI(), ex.getMessage());
         return ServiceResponse.fail(AppConstants.ErrorMessage.VALIDATION_FAILED + ex.getMessage());
     }
 
     @ExceptionHandler(BaseException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ServiceResponse<Void> handleBaseException(BaseException ex, HttpServletRequest request) {
-        log.error("{} at {}: {}", ex.getClass().getSimpleName(), request.getRequestURI(), ex.getMessage());
-        return ServiceResponse.fail(AppConstants.ErrorMessage.REQUEST_PROCESSING_FAILED);
+    public ResponseEntity<ServiceResponse<Void>> handleBaseException(BaseException ex, HttpServletRequest request) {
+        log.warn("{} at {}: {}", ex.getClass().getSimpleName(), request.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(ex.getStatus())
+                .body(ServiceResponse.fail(AppConstants.ErrorMessage.REQUEST_PROCESSING_FAILED));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -65,6 +93,16 @@ public class GlobalExceptionHandler {
         return ServiceResponse.fail(AppConstants.ErrorMessage.INVALID_FIELD_VALUE + field);
     }
 
+    /**
+     * No representation the client accepts, such as CBOR from a JSON-only endpoint. Sent without a
+     * body, because none could be written in a type the client accepts.
+     */
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleMediaTypeNotAcceptable(HttpMediaTypeNotAcceptableException ex, HttpServletRequest request) {
+        log.debug("Not acceptable at {}: {}", request.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ServiceResponse<Void> handleAllExceptions(Exception ex, HttpServletRequest request) {
@@ -0,0 +1,25 @@
+package com.candescent.PartyService.common.exception;
+
+import com.candescent.PartyService.common.constants.AppConstants;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a conditional request's precondition, such as {@code If-Match}, does not hold.
+ */
+public class PreconditionFailedException extends BaseException {
+
+    public PreconditionFailedException(String message) {
+        super(message, HttpStatus.PRECONDITION_FAILED, AppConstants.ErrorCode.PRECONDITION_FAILED);
+    }
+
+    private PreconditionFailedException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.PRECONDITION_FAILED, AppConstants.ErrorCode.PRECONDITION_FAILED, writableStackTrace);
+    }
+
+    /**
+     * Create an instance without a stack trace, for expected concurrent modifications.
+     */
+    public static PreconditionFailedException stackless(String message) {
+        return new PreconditionFailedException(message, false);
+    }
+}
@@ -15,4 +15,15 @@ public class ResourceNotFoundException extends BaseException {
     public ResourceNotFoundException(String message, Throwable cause) {
         super(message, HttpStatus.NOT_FOUND, AppConstants.ErrorCode.RESOURCE_NOT_FOUND, cause);
     }
+
+    private ResourceNotFoundException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.NOT_FOUND, AppConstants.ErrorCode.RESOURCE_NOT_FOUND, writableStackTrace);
+    }
+
+    /**
+     * Create an instance without a stack trace, for resource lookups that are expected to miss.
+     */
+    public static ResourceNotFoundException stackless(String message) {
+        return new ResourceNotFoundException(message, false);
+    }
 }
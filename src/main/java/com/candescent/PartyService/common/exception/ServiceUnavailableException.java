@@ -0,0 +1,14 @@
+package com.candescent.PartyService.common.exception;
+
+import com.candescent.PartyService.common.constants.AppConstants;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when the service is temporarily unable to accept more work.
+ */
+public class ServiceUnavailableException extends BaseException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, AppConstants.ErrorCode.SERVICE_UNAVAILABLE);
+    }
+}
@@ -27,6 +27,18 @@ public class ValidationException extends BaseException {
         this.errors = List.of(message);
     }
 
+    private ValidationException(String message, List<String> errors, boolean writableStackTrace) {
+        super(message, HttpStatus.BAD_REQUEST, AppConstants.ErrorCode.VALIDATION_ERROR, writableStackTrace);
+        this.errors = errors;
+    }
+
+    /**
+     * Create an instance without a stack trace, for rejected client input.
+     */
+    public static ValidationException stackless(String message, List<String> errors) {
+        return new ValidationException(message, errors, false);
+    }
+
     public List<String> getErrors() {
         return errors;
     }
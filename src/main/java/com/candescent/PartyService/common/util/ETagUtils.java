@@ -0,0 +1,101 @@
+package com.candescent.PartyService.common.util;
+
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity tag utilities for conditional requests.
+ * A party's tag is its optimistic lock version written as a quoted decimal, e.g. {@code "3"}.
+ * The CBOR and Smile representations of a party are different bytes, so their tags carry a
+ * suffix, e.g. {@code "3-cbor"}, and a cache never takes one format for another.
+ */
+public final class ETagUtils {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String CBOR_SUFFIX = "-cbor";
+    private static final String SMILE_SUFFIX = "-smile";
+
+    private ETagUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /** Builds the strong entity tag of a version in JSON. */
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /** Builds the strong entity tag of a version in the given response format. */
+    public static String of(long version, MediaType mediaType) {
+        return "\"" + version + suffix(mediaType) + "\"";
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the current tag using weak comparison.
+     * A null header never matches.
+     */
+    public static boolean matchesNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag) || stripWeak(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the versions it accepts, from tags of any format.
+     * Weak and malformed tags are skipped, since {@code If-Match} uses strong comparison.
+     *
+     * @return null if there is no precondition (no header or {@code *}), otherwise the accepted
+     * versions, possibly empty
+     */
+    public static List<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>(1);
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag)) {
+                return null;
+            }
+            if (tag.length() > 2 && tag.charAt(0) == '"' && tag.charAt(tag.length() - 1) == '"') {
+                try {
+                    versions.add(Long.parseLong(stripSuffix(tag.substring(1, tag.length() - 1))));
+                } catch (NumberFormatException e) {
+                    // not one of our tags; it can never match
+                }
+            }
+        }
+        return versions;
+    }
+
+    private static String suffix(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+            return CBOR_SUFFIX;
+        }
+        return MediaTypeUtils.APPLICATION_SMILE.equalsTypeAndSubtype(mediaType) ? SMILE_SUFFIX : "";
+    }
+
+    private static String stripSuffix(String opaqueTag) {
+        if (opaqueTag.endsWith(CBOR_SUFFIX)) {
+            return opaqueTag.substring(0, opaqueTag.length() - CBOR_SUFFIX.length());
+        }
+        if (opaqueTag.endsWith(SMILE_SUFFIX)) {
+            return opaqueTag.substring(0, opaqueTag.length() - SMILE_SUFFIX.length());
+        }
+        return opaqueTag;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,63 @@
+package com.candescent.PartyService.common.util;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Content negotiation between the formats party responses are written in.
+ */
+public final class MediaTypeUtils {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    // In message converter order, which makes JSON the default
+    private static final List<MediaType> PARTY_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private MediaTypeUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Picks the format of a party response for an {@code Accept} header the way Spring MVC's
+     * negotiation does: the accepted ranges by quality, then specificity, then header order, each
+     * matched against the formats in converter order. A missing header accepts JSON.
+     *
+     * @return the format, or null if the header accepts none of them
+     */
+    public static MediaType negotiatePartyMediaType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> ranges;
+        try {
+            ranges = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        ranges.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                .thenComparing(MediaTypeUtils::specificity, Comparator.reverseOrder()));
+        for (MediaType range : ranges) {
+            if (range.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType mediaType : PARTY_MEDIA_TYPES) {
+                if (range.includes(mediaType)) {
+                    return mediaType;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int specificity(MediaType range) {
+        if (range.isWildcardType()) {
+            return 0;
+        }
+        return range.isWildcardSubtype() ? 1 : 2;
+    }
+}
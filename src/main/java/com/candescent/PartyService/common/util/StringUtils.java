@@ -1,6 +1,7 @@
 package com.candescent.PartyService.common.util;
 
 import java.util.Collection;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
@@ -97,6 +98,26 @@ public final class StringUtils {
         return PHONE_PATTERN.matcher(phone.trim().replaceAll("[\\s()-]", "")).matches();
     }
 
+    /** Normalizes email for duplicate detection: trimmed and lower-cased. */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Normalizes phone number for duplicate detection: digits only. */
+    public static String normalizePhoneNumber(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
     /** Generates random UUID. */
     public static String generateUUID() {
         return UUID.randomUUID().toString();
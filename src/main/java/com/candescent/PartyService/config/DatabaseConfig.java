@@ -11,6 +11,12 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * Database configuration class for PostgreSQL connection.
  * Spring Boot auto-configures HikariCP DataSource from application.properties.
  * This class enables JPA features like auditing and transaction management.
+ *
+ * The Hikari pool is also the only limit on concurrent database work. With
+ * {@code spring.threads.virtual.enabled=true} requests are no longer capped by the Tomcat thread
+ * pool, and callers beyond {@code maximum-pool-size} wait in Hikari's queue for up to
+ * {@code connection-timeout}; its {@code hikaricp.connections.acquire} and
+ * {@code hikaricp.connections.usage} timers separate that queueing from database time.
  */
 @Configuration
 @EnableTransactionManagement
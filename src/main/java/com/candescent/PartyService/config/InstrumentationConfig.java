@@ -0,0 +1,43 @@
+package com.candescent.PartyService.config;
+
+import com.candescent.PartyService.aspect.LayerTimers;
+import com.candescent.PartyService.aspect.TimedHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+
+/**
+ * Registers serialization timing for JSON, CBOR and Smile responses when layer instrumentation is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "logging.aspect.enabled", havingValue = "true")
+public class InstrumentationConfig {
+
+    /**
+     * Replaces the JSON, CBOR and Smile converters with timed decorators of the same converters.
+     * Each keeps its place, so content negotiation is unchanged. Runs after the customizers that
+     * choose those converters.
+     * @param layerTimers the timers to record into
+     * @param jsonConverter Spring Boot's JSON converter
+     * @return the customizer
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public ServerHttpMessageConvertersCustomizer timedMessageConverters(ObjectProvider<LayerTimers> layerTimers,
+                                                                        JacksonJsonHttpMessageConverter jsonConverter) {
+        return builder -> {
+            LayerTimers timers = layerTimers.getIfAvailable();
+            if (timers == null) {
+                return;
+            }
+            builder.withJsonConverter(new TimedHttpMessageConverter(jsonConverter, "json", timers))
+                    .withCborConverter(new TimedHttpMessageConverter(JacksonConfig.cborConverter(), "cbor", timers))
+                    .withSmileConverter(new TimedHttpMessageConverter(JacksonConfig.smileConverter(), "smile", timers));
+        };
+    }
+}
@@ -1,15 +1,31 @@
 package com.candescent.PartyService.config;
 
+import com.candescent.PartyService.json.PartyJsonModule;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 /**
  * Configuration for Jackson ObjectMapper.
+ * The Jackson 2 ObjectMapper writes exports, the outbox and streamed lookups and reads imports.
+ * HTTP request and response bodies go through Spring Boot's Jackson 3 JsonMapper, which gets
+ * the party envelope codecs from {@link #partyJsonCodecs()}. Jackson 3 CBOR and Smile mappers
+ * with the same codecs serve callers that send {@code Accept: application/cbor} or
+ * {@code application/x-jackson-smile}. All of them generate straight into fixed-size buffers
+ * taken from pools shared between threads, so writing a response neither allocates nor grows a
+ * buffer: the Jackson 3 mappers share them by default, the Jackson 2 one is set up below.
  */
 @Configuration
 public class JacksonConfig {
@@ -21,18 +37,64 @@ public class JacksonConfig {
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        
+        return configure(new ObjectMapper());
+    }
+
+    /**
+     * Registers the hand-written party envelope codecs on the JsonMapper that Spring MVC uses
+     * for request and response bodies.
+     * @return the customizer
+     */
+    @Bean
+    public JsonMapperBuilderCustomizer partyJsonCodecs() {
+        return builder -> builder.addModule(new PartyJsonModule());
+    }
+
+    /**
+     * Replaces the default CBOR and Smile converters, whose mappers lack the party envelope
+     * codecs. They keep their place after the JSON converter, so JSON stays the default when the
+     * request does not ask for a binary format. Runs with Spring Boot's own converter
+     * customizer, ahead of the ones that decorate the chosen converters.
+     * @return the customizer
+     */
+    @Bean
+    @Order(0)
+    public ServerHttpMessageConvertersCustomizer binaryMessageConverters() {
+        return builder -> builder
+                .withCborConverter(cborConverter())
+                .withSmileConverter(smileConverter());
+    }
+
+    static JacksonCborHttpMessageConverter cborConverter() {
+        return new JacksonCborHttpMessageConverter(cborMapper());
+    }
+
+    static JacksonSmileHttpMessageConverter smileConverter() {
+        return new JacksonSmileHttpMessageConverter(smileMapper());
+    }
+
+    private static CBORMapper cborMapper() {
+        return CBORMapper.builder().addModule(new PartyJsonModule()).build();
+    }
+
+    private static SmileMapper smileMapper() {
+        return SmileMapper.builder().addModule(new PartyJsonModule()).build();
+    }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+        // Share read and write buffers between threads; the default pool keeps them per thread,
+        // which recycles nothing when each request runs on a new virtual thread
+        objectMapper.getFactory().setRecyclerPool(JsonRecyclerPools.sharedBoundedPool());
+
         // Register Java 8 date/time module
         objectMapper.registerModule(new JavaTimeModule());
-        
+
         // Don't fail on unknown properties
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        
+
         // Don't write dates as timestamps
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        
+
         return objectMapper;
     }
 }
-
@@ -0,0 +1,59 @@
+package com.candescent.PartyService.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.retry.RetryListener;
+import org.springframework.core.retry.RetryPolicy;
+import org.springframework.core.retry.RetryTemplate;
+import org.springframework.core.retry.Retryable;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+
+/**
+ * Retry of party updates that lost an optimistic locking race.
+ *
+ * Only optimistic locking failures are retried, with exponential backoff and jitter so that
+ * writers contending for the same party spread out instead of colliding again. Each retry is
+ * counted as {@code party.write.conflicts} with {@code outcome=retried}.
+ */
+@Configuration
+public class RetryConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryConfig.class);
+
+    @Bean
+    public RetryTemplate partyUpdateRetryTemplate(@Value("${app.party.update.retry.max-retries:3}") long maxRetries,
+                                                  @Value("${app.party.update.retry.delay:10ms}") Duration delay,
+                                                  @Value("${app.party.update.retry.multiplier:2}") double multiplier,
+                                                  @Value("${app.party.update.retry.max-delay:200ms}") Duration maxDelay,
+                                                  MeterRegistry meterRegistry) {
+        RetryTemplate retryTemplate = new RetryTemplate(RetryPolicy.builder()
+                .includes(OptimisticLockingFailureException.class)
+                .maxRetries(maxRetries)
+                .delay(delay)
+                .jitter(delay.dividedBy(2))
+                .multiplier(multiplier)
+                .maxDelay(maxDelay)
+                .build());
+        Counter retries = Counter.builder("party.write.conflicts")
+                .description("Party writes that lost a concurrent modification race")
+                .tag("operation", "updateParty")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        retryTemplate.setRetryListener(new RetryListener() {
+            @Override
+            public void beforeRetry(RetryPolicy retryPolicy, Retryable<?> retryable) {
+                retries.increment();
+            }
+        });
+        log.info("Party update retry configured: maxRetries={}, delay={}, multiplier={}, maxDelay={}",
+                maxRetries, delay, multiplier, maxDelay);
+        return retryTemplate;
+    }
+}
@@ -0,0 +1,80 @@
+package com.candescent.PartyService.controller;
+
+import com.candescent.PartyService.api.DataLoaderApi;
+import com.candescent.PartyService.common.constants.AppConstants;
+import com.candescent.PartyService.common.exception.ValidationException;
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.response.PartyImportJobResponse;
+import com.candescent.PartyService.dto.response.PartyImportRejection;
+import com.candescent.PartyService.entities.PartyImportJobEntity;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.candescent.PartyService.mapper.PartyImportJobMapper;
+import com.candescent.PartyService.service.PartyImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * REST controller for bulk data loading.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class DataLoaderController implements DataLoaderApi {
+
+    private final PartyImportService partyImportService;
+    private final PartyImportJobMapper partyImportJobMapper;
+
+    @Value("${app.party.import.rejections-page-size:1000}")
+    private int rejectionsPageSize;
+
+    @Override
+    public ResponseEntity<ServiceResponse<PartyImportJobResponse>> importParties(String format, String contentType,
+                                                                                 InputStream body) throws IOException {
+
+        PartyExportFormat importFormat = format == null && contentType != null && contentType.startsWith("text/csv")
+                ? PartyExportFormat.CSV
+                : PartyExportFormat.from(format);
+        log.info("Received party import as {}", importFormat);
+        PartyImportJobEntity job = partyImportService.submit(importFormat, body);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQuery(null)
+                        .path("/{jobId}")
+                        .buildAndExpand(job.getJobId())
+                        .toUri())
+                .body(ServiceResponse.success(partyImportJobMapper.toResponse(job), "Import accepted"));
+    }
+
+    @Override
+    public ServiceResponse<List<PartyImportJobResponse>> listImportJobs() {
+        List<PartyImportJobResponse> jobs = partyImportService.listJobs(AppConstants.Validation.MAX_PAGE_SIZE).stream()
+                .map(partyImportJobMapper::toResponse)
+                .toList();
+        return ServiceResponse.success(jobs, "Import jobs retrieved successfully");
+    }
+
+    @Override
+    public ServiceResponse<PartyImportJobResponse> getImportJob(String jobId) {
+        PartyImportJobResponse job = partyImportJobMapper.toResponse(partyImportService.getJob(jobId));
+        return ServiceResponse.success(job, "Import job retrieved successfully");
+    }
+
+    @Override
+    public ServiceResponse<List<PartyImportRejection>> getImportRejections(String jobId, Long afterLine, Integer size) {
+        int pageSize = size == null ? rejectionsPageSize : size;
+        if (pageSize < 1 || pageSize > rejectionsPageSize) {
+            throw new ValidationException("size must be between 1 and " + rejectionsPageSize);
+        }
+        List<PartyImportRejection> rejections = partyImportService.getRejections(jobId,
+                afterLine == null ? 0L : afterLine, pageSize);
+        return ServiceResponse.success(rejections, "Rejected rows retrieved successfully");
+    }
+}
@@ -1,16 +1,52 @@
 package com.candescent.PartyService.controller;
 
 import com.candescent.PartyService.api.PartyApi;
-import com.candescent.PartyService.common.exception.ServiceException;
+import com.candescent.PartyService.common.constants.AppConstants;
 import com.candescent.PartyService.common.exception.ValidationException;
 import com.candescent.PartyService.dto.common.ServiceRequest;
 import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.common.util.CollectionUtils;
+import com.candescent.PartyService.common.util.ETagUtils;
+import com.candescent.PartyService.common.util.MediaTypeUtils;
+import com.candescent.PartyService.common.util.StringUtils;
 import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyBatchResult;
+import com.candescent.PartyService.dto.response.PartyChangePage;
+import com.candescent.PartyService.dto.response.PartyPageResponse;
 import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.dto.response.PartySuggestion;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.candescent.PartyService.service.PartyChangeService;
+import com.candescent.PartyService.service.PartyExportService;
 import com.candescent.PartyService.service.PartyService;
+import com.candescent.PartyService.service.PartyStreamService;
+import com.candescent.PartyService.validation.PartyRequestValidator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for Party operations.
@@ -20,113 +56,324 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PartyController implements PartyApi {
 
+    private static final int EMAIL_MAX_LENGTH = 255;
+    private static final int SEARCH_TERM_MIN_LENGTH = 2;
+    private static final int SEARCH_TERM_MAX_LENGTH = 100;
+    private static final int TYPEAHEAD_DEFAULT_LIMIT = 10;
+
     private final PartyService partyService;
+    private final PartyExportService partyExportService;
+    private final PartyChangeService partyChangeService;
+    private final PartyStreamService partyStreamService;
+    private final PartyRequestValidator partyRequestValidator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.party.batch.max-items:10000}")
+    private int batchMaxItems;
+
+    @Value("${app.party.lookup.max-ids:10000}")
+    private int lookupMaxIds;
+
+    @Value("${app.party.search.max-results:50}")
+    private int searchMaxResults;
+
+    @Value("${app.party.typeahead.max-results:20}")
+    private int typeaheadMaxResults;
 
     @Override
     public ServiceResponse<PartyResponse> createParty(ServiceRequest<PartyRequest> request) {
 
-        try {
-            log.info("Received request to create party");
-            PartyRequest partyRequest = request.getPartyData();
-            validatePartyRequest(partyRequest);
-            PartyResponse partyResponse = partyService.createParty(partyRequest);
-            log.info("Party created successfully with id: {}", partyResponse.getId());
-            return ServiceResponse.success(partyResponse, "Party created successfully");
-        } catch (Exception e) {
-            log.error("Failed to create party: {}", e.getMessage(), e);
-            throw new ServiceException("Unable to create party");
-        }
+        log.info("Received request to create party");
+        PartyRequest partyRequest = request.getPartyData();
+        partyRequestValidator.validate(partyRequest);
+        PartyResponse partyResponse = partyService.createParty(partyRequest);
+        log.info("Party created successfully with id: {}", partyResponse.getId());
+        return ServiceResponse.success(partyResponse, "Party created successfully");
     }
 
     @Override
-    public ServiceResponse<PartyResponse> updateParty(Long custId, ServiceRequest<PartyRequest> request) {
-        try {
-            log.info("Received request to update party with custId: {}", custId);
-            PartyRequest partyRequest = request.getPartyData();
-            validatePartyRequest(partyRequest);
-            PartyResponse partyResponse = partyService.updateParty(custId, partyRequest);
-            log.info("Party updated successfully with custId: {}", partyResponse.getId());
-            return ServiceResponse.success(partyResponse, "Party updated successfully");
-        } catch (Exception e) {
-            log.error("Failed to update party: {}", e.getMessage(), e);
-            throw new ServiceException("Unable to update party");
+    public ServiceResponse<List<PartyBatchResult>> createParties(ServiceRequest<List<PartyRequest>> request) {
+
+        List<PartyRequest> partyRequests = request == null ? null : request.getPartyData();
+        if (CollectionUtils.isEmpty(partyRequests)) {
+            throw new ValidationException("Party list cannot be empty");
+        }
+        if (partyRequests.size() > batchMaxItems) {
+            throw new ValidationException("Party list cannot exceed " + batchMaxItems + " items");
         }
+        log.info("Received request to create {} parties", partyRequests.size());
+        List<PartyBatchResult> results = new ArrayList<>(partyRequests.size());
+        Map<Integer, PartyRequest> validRequests = new LinkedHashMap<>();
+        for (int i = 0; i < partyRequests.size(); i++) {
+            List<String> errors = partyRequestValidator.collectErrors(partyRequests.get(i));
+            if (errors.isEmpty()) {
+                validRequests.put(i, partyRequests.get(i));
+            } else {
+                results.add(PartyBatchResult.failed(i, String.join("; ", errors)));
+            }
+        }
+        if (!validRequests.isEmpty()) {
+            results.addAll(partyService.createParties(validRequests));
+        }
+        results.sort(Comparator.comparingInt(PartyBatchResult::getIndex));
+        log.info("Batch create processed {} parties", results.size());
+        return ServiceResponse.success(results, "Batch processed");
     }
 
     @Override
-    public ServiceResponse<PartyResponse> getPartyByCustId(Long custId) {
+    public ResponseEntity<ServiceResponse<PartyResponse>> updateParty(Long custId, ServiceRequest<PartyRequest> request,
+                                                                      String ifMatch, String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        log.info("Received request to update party with custId: {}", custId);
+        MediaType mediaType = negotiatePartyMediaType(accept);
+        PartyRequest partyRequest = request.getPartyData();
+        partyRequestValidator.validate(partyRequest);
+        PartyResponse partyResponse = partyService.updateParty(custId, partyRequest, ETagUtils.parseIfMatch(ifMatch));
+        log.info("Party updated successfully with custId: {}", partyResponse.getId());
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .eTag(ETagUtils.of(partyResponse.getVersion(), mediaType))
+                .body(ServiceResponse.success(partyResponse, "Party updated successfully"));
+    }
 
-        try {
-            log.info("Received request to get party with custId: {}", custId);
-            if (custId == null) {
-                throw new ValidationException("Customer ID is required");
+    @Override
+    public ResponseEntity<ServiceResponse<PartyResponse>> getPartyByCustId(Long custId, String ifNoneMatch, String accept)
+            throws HttpMediaTypeNotAcceptableException {
+
+        log.info("Received request to get party with custId: {}", custId);
+        if (custId == null) {
+            throw new ValidationException("Customer ID is required");
+        }
+        MediaType mediaType = negotiatePartyMediaType(accept);
+        if (ifNoneMatch != null) {
+            // Revalidation needs only the version, not the party
+            String etag = ETagUtils.of(partyService.getPartyVersion(custId), mediaType);
+            if (ETagUtils.matchesNoneMatch(ifNoneMatch, etag)) {
+                log.info("Party not modified with custId: {}", custId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
             }
-            PartyResponse partyResponse = partyService.getPartyByCustId(custId);
-            log.info("Party retrieved successfully with custId: {}", custId);
-            return ServiceResponse.success(partyResponse, "Party retrieved successfully");
-        } catch (Exception e) {
-            log.error("Failed to retrieve party: {}", e.getMessage(), e);
-            throw new ServiceException("Unable to retrieve party");
         }
+        PartyResponse partyResponse = partyService.getPartyByCustId(custId);
+        log.info("Party retrieved successfully with custId: {}", custId);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .eTag(ETagUtils.of(partyResponse.getVersion(), mediaType))
+                .body(ServiceResponse.success(partyResponse, "Party retrieved successfully"));
     }
 
-    /**
-     * Validate party request.
-     *
-     * @param request the party request
-     */
-    private void validatePartyRequest(PartyRequest request) {
+    @Override
+    public ServiceResponse<PartyResponse> getPartyByEmail(String emailId) {
 
-        if (request == null) {
-            throw new ValidationException("Party request cannot be null");
+        log.info("Received request to get party by email");
+        String email = StringUtils.trimToNull(emailId);
+        if (email == null || email.length() > EMAIL_MAX_LENGTH || !PartyRequestValidator.isValidEmail(email)) {
+            throw new ValidationException(PartyRequestValidator.EMAIL_INVALID);
         }
-        if (request.getCustFirstName() == null || request.getCustFirstName().trim().isEmpty()) {
-            throw new ValidationException("First name is required");
+        PartyResponse partyResponse = partyService.getPartyByEmail(email);
+        log.info("Party retrieved successfully with custId: {}", partyResponse.getId());
+        return ServiceResponse.success(partyResponse, "Party retrieved successfully");
+    }
+
+    @Override
+    public ServiceResponse<PartyResponse> getPartyByPhone(String phoneNo) {
+
+        log.info("Received request to get party by phone number");
+        String phone = StringUtils.trimToNull(phoneNo);
+        if (phone == null || !PartyRequestValidator.isValidPhoneNumber(phone)) {
+            throw new ValidationException(PartyRequestValidator.PHONE_INVALID);
         }
-        if (request.getCustLastName() == null || request.getCustLastName().trim().isEmpty()) {
-            throw new ValidationException("Last name is required");
+        PartyResponse partyResponse = partyService.getPartyByPhone(phone);
+        log.info("Party retrieved successfully with custId: {}", partyResponse.getId());
+        return ServiceResponse.success(partyResponse, "Party retrieved successfully");
+    }
+
+    @Override
+    public ServiceResponse<PartyPageResponse> listParties(Long afterId, Integer size, String lastName, String emailDomain) {
+
+        log.info("Received request to list parties after id: {}", afterId);
+        long cursor = afterId == null ? 0L : afterId;
+        int pageSize = size == null ? AppConstants.Validation.DEFAULT_PAGE_SIZE : size;
+        if (cursor < 0) {
+            throw new ValidationException("afterId cannot be negative");
         }
-        if (request.getEmailId() == null || request.getEmailId().trim().isEmpty()) {
-            throw new ValidationException("Email ID is required");
+        if (pageSize < 1 || pageSize > AppConstants.Validation.MAX_PAGE_SIZE) {
+            throw new ValidationException("size must be between 1 and " + AppConstants.Validation.MAX_PAGE_SIZE);
         }
-        if (!isValidEmail(request.getEmailId())) {
-            throw new ValidationException("Invalid email format");
+        String domain = StringUtils.isBlank(emailDomain) ? null : emailDomain.trim();
+        if (domain != null && !isValidEmailDomain(domain)) {
+            throw new ValidationException("Invalid email domain");
         }
-        if (request.getPhoneNo() == null || request.getPhoneNo().trim().isEmpty()) {
-            throw new ValidationException("Phone number is required");
+        PartyPageResponse page = partyService.listParties(cursor, pageSize,
+                StringUtils.isBlank(lastName) ? null : lastName.trim(), domain);
+        log.info("Listed {} parties after id: {}", page.getParties().size(), cursor);
+        return ServiceResponse.success(page, "Parties retrieved successfully");
+    }
+
+    @Override
+    public ServiceResponse<List<PartyResponse>> searchParties(String q, Integer limit) {
+
+        String term = StringUtils.trimToNull(q);
+        if (term == null || term.length() < SEARCH_TERM_MIN_LENGTH || term.length() > SEARCH_TERM_MAX_LENGTH) {
+            throw new ValidationException("q must be between " + SEARCH_TERM_MIN_LENGTH + " and "
+                    + SEARCH_TERM_MAX_LENGTH + " characters");
         }
-        if (!isValidPhoneNumber(request.getPhoneNo())) {
-            throw new ValidationException("Invalid phone number format");
+        int maxResults = limit == null ? Math.min(AppConstants.Validation.DEFAULT_PAGE_SIZE, searchMaxResults) : limit;
+        if (maxResults < 1 || maxResults > searchMaxResults) {
+            throw new ValidationException("limit must be between 1 and " + searchMaxResults);
         }
+        log.info("Received request to search parties by name");
+        List<PartyResponse> parties = partyService.searchParties(term, maxResults);
+        log.info("Party search returned {} parties", parties.size());
+        return ServiceResponse.success(parties, "Parties retrieved successfully");
+    }
+
+    @Override
+    public ServiceResponse<List<PartySuggestion>> suggestParties(String prefix, Integer limit) {
+
+        String start = StringUtils.trimToNull(prefix);
+        if (start == null || start.length() > SEARCH_TERM_MAX_LENGTH) {
+            throw new ValidationException("prefix must be between 1 and " + SEARCH_TERM_MAX_LENGTH + " characters");
+        }
+        int maxResults = limit == null ? Math.min(TYPEAHEAD_DEFAULT_LIMIT, typeaheadMaxResults) : limit;
+        if (maxResults < 1 || maxResults > typeaheadMaxResults) {
+            throw new ValidationException("limit must be between 1 and " + typeaheadMaxResults);
+        }
+        List<PartySuggestion> suggestions = partyService.suggestParties(start, maxResults);
+        log.debug("Typeahead returned {} names", suggestions.size());
+        return ServiceResponse.success(suggestions, "Suggestions retrieved successfully");
+    }
+
+    @Override
+    public void exportParties(String format, Long afterId, HttpServletResponse response) throws IOException {
+
+        PartyExportFormat exportFormat = PartyExportFormat.from(format);
+        long cursor = afterId == null ? 0L : afterId;
+        if (cursor < 0) {
+            throw new ValidationException("afterId cannot be negative");
+        }
+        log.info("Received request to export parties after id: {} as {}", cursor, exportFormat);
+        // Written on the request thread rather than as a StreamingResponseBody, so a full export
+        // is not cut off by the async request timeout
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"party-export." + exportFormat.getFileExtension() + "\"");
+        long rows = partyExportService.exportParties(cursor, exportFormat, response.getOutputStream());
+        log.info("Party export completed with {} rows", rows);
+    }
+
+    @Override
+    public CompletableFuture<ServiceResponse<PartyChangePage>> getChanges(Long since, Integer limit, Integer waitSeconds) {
+
+        long position = since == null ? 0L : since;
+        int pageSize = limit == null ? AppConstants.Validation.DEFAULT_PAGE_SIZE : limit;
+        int wait = waitSeconds == null ? 0 : waitSeconds;
+        if (position < 0) {
+            throw new ValidationException("since cannot be negative");
+        }
+        if (pageSize < 1 || pageSize > AppConstants.Validation.MAX_PAGE_SIZE) {
+            throw new ValidationException("limit must be between 1 and " + AppConstants.Validation.MAX_PAGE_SIZE);
+        }
+        long maxWaitSeconds = partyChangeService.getMaxWait().toSeconds();
+        if (wait < 0 || wait > maxWaitSeconds) {
+            throw new ValidationException("waitSeconds must be between 0 and " + maxWaitSeconds);
+        }
+        log.debug("Received request for party changes after position: {}", position);
+        return partyChangeService.pollChanges(position, pageSize, Duration.ofSeconds(wait))
+                .thenApply(page -> ServiceResponse.success(page, "Changes retrieved successfully"));
+    }
+
+    @Override
+    public SseEmitter streamChanges(String lastEventId) {
+
+        Long position = null;
+        if (!StringUtils.isBlank(lastEventId)) {
+            try {
+                position = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Last-Event-ID must be a change position");
+            }
+            if (position < 0) {
+                throw new ValidationException("Last-Event-ID cannot be negative");
+            }
+        }
+        log.debug("Received request to stream party changes after position: {}", position);
+        return partyStreamService.subscribe(position);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> lookupParties(ServiceRequest<List<Long>> request) {
+
+        List<Long> custIds = request == null || request.getPartyData() == null
+                ? List.of()
+                : request.getPartyData().stream().filter(Objects::nonNull).toList();
+        if (custIds.isEmpty()) {
+            throw new ValidationException("Customer ID list cannot be empty");
+        }
+        if (custIds.size() > lookupMaxIds) {
+            throw new ValidationException("Customer ID list cannot exceed " + lookupMaxIds + " items");
+        }
+        log.info("Received request to look up {} parties", custIds.size());
+        StreamingResponseBody body = outputStream -> writeLookupResponse(custIds, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
-     * Validate email format.
+     * Stream the lookup envelope, writing each resolved chunk as soon as it is available.
      *
-     * @param email the email to validate
-     * @return true if valid, false otherwise
+     * @param custIds      the customer IDs to look up
+     * @param outputStream the response body
      */
-    private boolean isValidEmail(String email) {
-        if (email == null) {
-            return false;
+    private void writeLookupResponse(List<Long> custIds, OutputStream outputStream) throws IOException {
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField("status", AppConstants.Status.SUCCESS);
+            generator.writeStringField("message", "Parties retrieved successfully");
+            generator.writeObjectFieldStart("partyData");
+            generator.writeArrayFieldStart("parties");
+            List<Long> missingIds = partyService.lookupParties(custIds, parties -> {
+                try {
+                    for (PartyResponse party : parties) {
+                        generator.writeObject(party);
+                    }
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("missingIds");
+            for (Long missingId : missingIds) {
+                generator.writeNumber(missingId);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
         }
-        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        return email.matches(emailRegex);
+        log.info("Party lookup streamed for {} ids", custIds.size());
     }
 
     /**
-     * Validate phone number format.
-     *
-     * @param phoneNo the phone number to validate
-     * @return true if valid, false otherwise
+     * Check an email domain filter. Only the characters allowed in an email domain are accepted,
+     * which also keeps LIKE wildcards out of the query pattern.
      */
-    private boolean isValidPhoneNumber(String phoneNo) {
+    private static boolean isValidEmailDomain(String domain) {
+        return PartyRequestValidator.isValidEmail("x@" + domain);
+    }
 
-        if (phoneNo == null) {
-            return false;
+    /**
+     * Pick the format of a party response up front, so its ETag names the format it is sent in,
+     * including on a 304 that sends no body.
+     */
+    private static MediaType negotiatePartyMediaType(String accept) throws HttpMediaTypeNotAcceptableException {
+        MediaType mediaType = MediaTypeUtils.negotiatePartyMediaType(accept);
+        if (mediaType == null) {
+            throw new HttpMediaTypeNotAcceptableException(List.of(MediaType.APPLICATION_JSON,
+                    MediaType.APPLICATION_CBOR, MediaTypeUtils.APPLICATION_SMILE));
         }
-        // Allow digits, spaces, hyphens, parentheses, and plus sign
-        String phoneRegex = "^[0-9+\\-\\s()]{7,20}$";
-        return phoneNo.matches(phoneRegex);
+        return mediaType;
     }
 }
@@ -0,0 +1,50 @@
+package com.candescent.PartyService.controller;
+
+import com.candescent.PartyService.common.util.MediaTypeUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adds {@code Vary: Accept} to every response whose format was negotiated between JSON, CBOR and
+ * Smile, so a shared cache keeps one copy per format instead of serving one to every client.
+ * Also runs for the body-less 304 of a conditional read.
+ */
+@RestControllerAdvice
+public class VaryAcceptAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (isPartyMediaType(selectedContentType)) {
+            HttpHeaders headers = response.getHeaders();
+            List<String> vary = headers.getVary();
+            if (vary.stream().noneMatch(HttpHeaders.ACCEPT::equalsIgnoreCase)) {
+                List<String> merged = new ArrayList<>(vary);
+                merged.add(HttpHeaders.ACCEPT);
+                headers.setVary(merged);
+            }
+        }
+        return body;
+    }
+
+    private static boolean isPartyMediaType(MediaType mediaType) {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+                || MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)
+                || MediaTypeUtils.APPLICATION_SMILE.isCompatibleWith(mediaType);
+    }
+}
@@ -0,0 +1,13 @@
+package com.candescent.PartyService.dataloader;
+
+/**
+ * Lifecycle of a party import job. Jobs move forward through the phases in declaration order;
+ * each phase is checkpointed, so a job interrupted by a restart resumes at the phase it was in.
+ */
+public enum PartyImportStatus {
+    QUEUED, STAGING, DEDUPLICATING, MERGING, COMPLETED, FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
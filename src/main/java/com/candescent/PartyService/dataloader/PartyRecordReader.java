@@ -0,0 +1,205 @@
+package com.candescent.PartyService.dataloader;
+
+import com.candescent.PartyService.common.exception.ValidationException;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads party records one at a time from an uploaded CSV or NDJSON stream.
+ *
+ * CSV files need a header row naming the {@code custFirstName}, {@code custLastName},
+ * {@code emailId} and {@code phoneNo} columns, in any order; other columns are ignored, so files
+ * produced by the party export can be imported as they are. Quoted fields may contain commas,
+ * doubled quotes and line breaks. NDJSON files hold one party object per line.
+ */
+public abstract class PartyRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final BufferedReader reader;
+
+    protected PartyRecordReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Create a reader for the given format.
+     *
+     * @param format       the upload format
+     * @param objectMapper mapper used to parse NDJSON lines
+     * @param inputStream  the uploaded stream
+     * @return the reader
+     * @throws ValidationException if a CSV header is missing or lacks a required column
+     */
+    public static PartyRecordReader create(PartyExportFormat format, ObjectMapper objectMapper,
+                                           InputStream inputStream) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonReader(objectMapper, inputStream);
+            case CSV -> new CsvReader(inputStream);
+        };
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the record, or null at the end of the stream
+     */
+    public abstract PartyRecord next() throws IOException;
+
+    /**
+     * A parsed record: either a request or the reason it could not be parsed.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class PartyRecord {
+        private final long line;
+        private final PartyRequest request;
+        private final String error;
+    }
+
+    private static final class NdjsonReader extends PartyRecordReader {
+
+        private final ObjectReader objectReader;
+        private long line;
+
+        private NdjsonReader(ObjectMapper objectMapper, InputStream inputStream) {
+            super(inputStream);
+            this.objectReader = objectMapper.readerFor(PartyRequest.class);
+        }
+
+        @Override
+        public PartyRecord next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new PartyRecord(line, objectReader.readValue(text), null);
+                } catch (JsonProcessingException e) {
+                    return new PartyRecord(line, null, "Malformed JSON");
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class CsvReader extends PartyRecordReader {
+
+        private static final String[] REQUIRED_COLUMNS = {"custfirstname", "custlastname", "emailid", "phoneno"};
+
+        private final int[] columnIndexes = new int[REQUIRED_COLUMNS.length];
+        private final StringBuilder field = new StringBuilder();
+        private long line = 1;
+        private int width;
+
+        private CsvReader(InputStream inputStream) throws IOException {
+            super(inputStream);
+            List<String> header = readFields();
+            if (header == null) {
+                throw new ValidationException("CSV file is empty");
+            }
+            width = header.size();
+            for (int i = 0; i < REQUIRED_COLUMNS.length; i++) {
+                columnIndexes[i] = indexOf(header, REQUIRED_COLUMNS[i]);
+                if (columnIndexes[i] < 0) {
+                    throw new ValidationException("CSV header must include custFirstName, custLastName, emailId and phoneNo");
+                }
+            }
+        }
+
+        private static int indexOf(List<String> header, String column) {
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).trim().toLowerCase(Locale.ROOT).equals(column)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public PartyRecord next() throws IOException {
+            while (true) {
+                long recordLine = line;
+                List<String> fields = readFields();
+                if (fields == null) {
+                    return null;
+                }
+                if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                    continue;
+                }
+                if (fields.size() != width) {
+                    return new PartyRecord(recordLine, null, "Expected " + width + " fields but found " + fields.size());
+                }
+                PartyRequest request = PartyRequest.builder()
+                        .custFirstName(fields.get(columnIndexes[0]))
+                        .custLastName(fields.get(columnIndexes[1]))
+                        .emailId(fields.get(columnIndexes[2]))
+                        .phoneNo(fields.get(columnIndexes[3]))
+                        .build();
+                return new PartyRecord(recordLine, request, null);
+            }
+        }
+
+        /**
+         * Read the fields of one RFC 4180 record.
+         *
+         * @return the fields, or null at the end of the stream
+         */
+        private List<String> readFields() throws IOException {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>(width > 0 ? width : 8);
+            boolean quoted = false;
+            field.setLength(0);
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
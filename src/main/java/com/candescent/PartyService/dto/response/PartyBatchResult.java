@@ -0,0 +1,48 @@
+package com.candescent.PartyService.dto.response;
+
+import com.candescent.PartyService.common.constants.AppConstants;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-item outcome of a bulk party operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyBatchResult {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("errorDescription")
+    private String errorDescription;
+
+    public static PartyBatchResult created(int index, Long id) {
+        return PartyBatchResult.builder()
+                .index(index)
+                .status(AppConstants.Status.SUCCESS)
+                .id(String.valueOf(id))
+                .build();
+    }
+
+    public static PartyBatchResult failed(int index, String errorDescription) {
+        return PartyBatchResult.builder()
+                .index(index)
+                .status(AppConstants.Status.FAIL)
+                .errorDescription(errorDescription)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.candescent.PartyService.dto.response;
+
+import com.candescent.PartyService.outbox.PartyChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for one change in the party change feed.
+ * {@code position} orders the feed; pass the last position received as {@code since} to resume.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyChangeEvent {
+
+    @JsonProperty("position")
+    Long position;
+
+    @JsonProperty("type")
+    PartyChangeType type;
+
+    @JsonProperty("version")
+    Long version;
+
+    @JsonProperty("occurredAt")
+    Instant occurredAt;
+
+    @JsonProperty("party")
+    PartyResponse party;
+}
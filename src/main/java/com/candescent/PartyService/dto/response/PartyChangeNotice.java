@@ -0,0 +1,34 @@
+package com.candescent.PartyService.dto.response;
+
+import com.candescent.PartyService.outbox.PartyChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for one event of the party change stream: just enough for a subscriber to
+ * invalidate its copy. {@code version} matches the party's ETag and {@code modifiedTs} is the
+ * party's modification time as of this change.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyChangeNotice {
+
+    @JsonProperty("custId")
+    String custId;
+
+    @JsonProperty("version")
+    Long version;
+
+    @JsonProperty("type")
+    PartyChangeType type;
+
+    @JsonProperty("modifiedTs")
+    Instant modifiedTs;
+}
@@ -0,0 +1,31 @@
+package com.candescent.PartyService.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of the party change feed.
+ * Pass {@code nextSince} as {@code since} to fetch the following changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyChangePage {
+
+    @JsonProperty("changes")
+    private List<PartyChangeEvent> changes;
+
+    @JsonProperty("hasMore")
+    private boolean hasMore;
+
+    @JsonProperty("nextSince")
+    private Long nextSince;
+}
@@ -0,0 +1,51 @@
+package com.candescent.PartyService.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Response DTO describing the progress of a party import job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyImportJobResponse {
+
+    @JsonProperty("jobId")
+    private String jobId;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("format")
+    private String format;
+
+    @JsonProperty("rowsRead")
+    private long rowsRead;
+
+    @JsonProperty("rowsStaged")
+    private long rowsStaged;
+
+    @JsonProperty("rowsImported")
+    private long rowsImported;
+
+    @JsonProperty("rowsRejected")
+    private long rowsRejected;
+
+    @JsonProperty("startedTs")
+    private Instant startedTs;
+
+    @JsonProperty("finishedTs")
+    private Instant finishedTs;
+
+    @JsonProperty("errorDescription")
+    private String errorDescription;
+}
@@ -0,0 +1,25 @@
+package com.candescent.PartyService.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A row of an import file that was not imported, and why.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyImportRejection {
+
+    @JsonProperty("line")
+    private long line;
+
+    @JsonProperty("reason")
+    private String reason;
+}
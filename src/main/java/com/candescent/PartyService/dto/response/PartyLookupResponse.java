@@ -0,0 +1,28 @@
+package com.candescent.PartyService.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for bulk party lookups.
+ * Documents the shape of the streamed lookup response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyLookupResponse {
+
+    @JsonProperty("parties")
+    private List<PartyResponse> parties;
+
+    @JsonProperty("missingIds")
+    private List<Long> missingIds;
+}
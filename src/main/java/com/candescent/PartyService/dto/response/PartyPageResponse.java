@@ -0,0 +1,31 @@
+package com.candescent.PartyService.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a keyset-paginated page of parties.
+ * Pass {@code nextAfterId} as {@code afterId} to fetch the next page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartyPageResponse {
+
+    @JsonProperty("parties")
+    private List<PartyResponse> parties;
+
+    @JsonProperty("hasMore")
+    private boolean hasMore;
+
+    @JsonProperty("nextAfterId")
+    private Long nextAfterId;
+}
@@ -1,35 +1,40 @@
 package com.candescent.PartyService.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 /**
  * Response DTO for Party operations.
+ * Immutable so a single instance can be shared safely from the party cache.
  */
-@Data
-@Builder
-@NoArgsConstructor
+@Value
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class PartyResponse {
 
     @JsonProperty("id")
-    private String id;
+    String id;
 
     @JsonProperty("custFirstName")
-    private String custFirstName;
+    String custFirstName;
 
     @JsonProperty("custLastName")
-    private String custLastName;
+    String custLastName;
 
     @JsonProperty("emailId")
-    private String emailId;
+    String emailId;
 
     @JsonProperty("phoneNo")
-    private String phoneNo;
-}
+    String phoneNo;
 
+    /**
+     * Optimistic lock version, the value behind the party's ETag; not part of the payload.
+     */
+    @JsonIgnore
+    Long version;
+}
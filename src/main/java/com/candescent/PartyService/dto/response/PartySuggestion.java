@@ -0,0 +1,31 @@
+package com.candescent.PartyService.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for one typeahead suggestion: a first or last name, how many parties have it, and
+ * the lowest of their customer IDs.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartySuggestion {
+
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("partyCount")
+    private Integer partyCount;
+
+    @JsonProperty("custIds")
+    private List<String> custIds;
+}
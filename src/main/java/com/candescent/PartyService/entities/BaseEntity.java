@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,6 +16,10 @@ import java.time.Instant;
 
 /**
  * Base entity with common fields for all entities.
+ * Ids come from a pooled sequence so Hibernate can batch inserts; IDENTITY columns
+ * force a round trip per row to read back the generated key.
+ * The version is incremented on every update, so a write based on a stale read fails with an
+ * optimistic locking error instead of silently overwriting a concurrent change.
  */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
@@ -28,7 +33,8 @@ public abstract class BaseEntity implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity_seq")
+    @SequenceGenerator(name = "entity_seq", sequenceName = "entity_seq", allocationSize = 50)
     private Long id;
 
     @CreatedDate
@@ -38,4 +44,9 @@ public abstract class BaseEntity implements Serializable {
     @LastModifiedDate
     @Column(name = "modified_ts")
     private Instant modifiedTs;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
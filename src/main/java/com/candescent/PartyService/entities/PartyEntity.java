@@ -8,7 +8,9 @@ import lombok.experimental.SuperBuilder;
  * Entity class representing a Party (Customer).
  */
 @Entity
-@Table(name = "party")
+@Table(name = "party", indexes = {
+        @Index(name = "idx_party_last_name_id", columnList = "cust_last_name, id")
+})
 @Getter
 @Setter
 @SuperBuilder
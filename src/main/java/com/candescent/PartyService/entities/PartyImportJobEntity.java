@@ -0,0 +1,77 @@
+package com.candescent.PartyService.entities;
+
+import com.candescent.PartyService.dataloader.PartyImportStatus;
+import com.candescent.PartyService.export.PartyExportFormat;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing a party import job and its checkpoint.
+ *
+ * {@code lastStagedLine} and {@code lastMergedLine} are committed together with the chunk they
+ * describe, so a resumed job continues exactly after the last committed chunk.
+ *
+ * {@code heartbeatTs} is only written by the owning node's heartbeat and by a takeover, never by
+ * saving the entity, so a checkpoint save cannot set it back.
+ */
+@Entity
+@Table(name = "party_import_job", indexes = {
+        @Index(name = "idx_party_import_job_node_status", columnList = "node, status")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyImportJobEntity {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "node", nullable = false, length = 255)
+    private String node;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 10)
+    private PartyExportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PartyImportStatus status;
+
+    @Column(name = "spool_path", nullable = false, length = 1000)
+    private String spoolPath;
+
+    @Column(name = "rows_read", nullable = false)
+    private long rowsRead;
+
+    @Column(name = "rows_staged", nullable = false)
+    private long rowsStaged;
+
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Column(name = "last_staged_line", nullable = false)
+    private long lastStagedLine;
+
+    @Column(name = "last_merged_line", nullable = false)
+    private long lastMergedLine;
+
+    @Column(name = "error_description", length = 1000)
+    private String errorDescription;
+
+    @Column(name = "started_ts", nullable = false)
+    private Instant startedTs;
+
+    @Column(name = "finished_ts")
+    private Instant finishedTs;
+
+    @Column(name = "heartbeat_ts", updatable = false)
+    private Instant heartbeatTs;
+}
@@ -0,0 +1,39 @@
+package com.candescent.PartyService.export;
+
+import com.candescent.PartyService.common.exception.ValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the party export.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PartyExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    /**
+     * Resolve a format from a request parameter, defaulting to NDJSON.
+     *
+     * @param value the requested format, case-insensitive
+     * @return the export format
+     * @throws ValidationException if the format is not supported
+     */
+    public static PartyExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.candescent.PartyService.export;
+
+import com.candescent.PartyService.entities.PartyEntity;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Writes exported party rows straight to an output stream, one row at a time.
+ *
+ * Rows are written field by field from the entity, so memory use does not grow with the
+ * number of rows. Closing the writer flushes it but leaves the target stream open.
+ */
+public abstract class PartyExportWriter implements Closeable {
+
+    static final String[] COLUMNS = {
+            "id", "custFirstName", "custLastName", "emailId", "phoneNo", "createdTs", "modifiedTs"
+    };
+
+    /**
+     * Create a writer for the given format.
+     *
+     * @param format       the export format
+     * @param jsonFactory  factory for the NDJSON generator
+     * @param outputStream the target stream
+     * @return the writer
+     */
+    public static PartyExportWriter create(PartyExportFormat format, JsonFactory jsonFactory,
+                                           OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(jsonFactory, outputStream);
+            case CSV -> new CsvWriter(outputStream);
+        };
+    }
+
+    /**
+     * Write one party row.
+     *
+     * @param party the party
+     */
+    public abstract void write(PartyEntity party) throws IOException;
+
+    /**
+     * Push buffered rows to the target stream.
+     */
+    public abstract void flush() throws IOException;
+
+    private static String timestamp(Instant instant) {
+        return instant == null ? null : instant.toString();
+    }
+
+    /**
+     * One JSON object per line, written through Jackson's streaming generator.
+     */
+    private static final class NdjsonWriter extends PartyExportWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(JsonFactory jsonFactory, OutputStream outputStream) throws IOException {
+            this.generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(PartyEntity party) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], party.getId());
+            generator.writeStringField(COLUMNS[1], party.getCustFirstName());
+            generator.writeStringField(COLUMNS[2], party.getCustLastName());
+            generator.writeStringField(COLUMNS[3], party.getEmailId());
+            generator.writeStringField(COLUMNS[4], party.getPhoneNo());
+            generator.writeStringField(COLUMNS[5], timestamp(party.getCreatedTs()));
+            generator.writeStringField(COLUMNS[6], timestamp(party.getModifiedTs()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; fields are quoted only when they need to be.
+     */
+    private static final class CsvWriter extends PartyExportWriter {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream outputStream) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(PartyEntity party) throws IOException {
+            writer.write(String.valueOf(party.getId()));
+            writeField(party.getCustFirstName());
+            writeField(party.getCustLastName());
+            writeField(party.getEmailId());
+            writeField(party.getPhoneNo());
+            writeField(timestamp(party.getCreatedTs()));
+            writeField(timestamp(party.getModifiedTs()));
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            if (!needsQuoting(value)) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+
+        private static boolean needsQuoting(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Flush only; the response stream is owned by the servlet container
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.candescent.PartyService.index;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Compact open-addressing multimap from 64-bit key fingerprints to custIds.
+ *
+ * Each slot is a (fingerprint, custId) pair of longs stored side by side in one array and probed
+ * linearly, so a lookup reads one or two cache lines and a miss allocates nothing. A fingerprint
+ * of zero marks an empty slot. One fingerprint may map to several custIds, for parties whose keys
+ * normalize to the same value or on a rare fingerprint collision, so callers must confirm every
+ * candidate against the party itself.
+ *
+ * Readers run lock-free under an optimistic {@link StampedLock} stamp and retry under the read
+ * lock if a writer interfered; writers are serialized. Removal shifts the following entries back
+ * instead of leaving tombstones, so probe sequences stay short however often keys change.
+ */
+public class FingerprintIndex {
+
+    private static final long EMPTY = 0L;
+    private static final long[] NO_IDS = new long[0];
+    private static final int MIN_CAPACITY = 16;
+    private static final double MAX_LOAD = 0.75;
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile long[] slots;
+    private volatile int size;
+    private int resizeThreshold;
+
+    public FingerprintIndex(int expectedEntries) {
+        allocate(capacityFor(expectedEntries));
+    }
+
+    /**
+     * Fingerprint a key: FNV-1a over its characters followed by the MurmurHash3 finalizer, so
+     * similar keys spread over the whole table.
+     *
+     * @param key the normalized key
+     * @return the 64-bit fingerprint
+     */
+    public static long fingerprint(CharSequence key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Find the custIds stored under a fingerprint.
+     *
+     * @param fingerprint the key fingerprint
+     * @return the candidate custIds, empty when there are none
+     */
+    public long[] find(long fingerprint) {
+        long key = slotKey(fingerprint);
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            long[] found = probe(slots, key);
+            if (lock.validate(stamp)) {
+                return found;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return probe(slots, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Store a custId under a fingerprint; storing the same pair twice is a no-op.
+     *
+     * @param fingerprint the key fingerprint
+     * @param custId      the customer ID
+     * @return true if the pair was added
+     */
+    public boolean add(long fingerprint, long custId) {
+        long key = slotKey(fingerprint);
+        long stamp = lock.writeLock();
+        try {
+            long[] table = slots;
+            int mask = (table.length >>> 1) - 1;
+            int i = home(key, mask);
+            while (table[i << 1] != EMPTY) {
+                if (table[i << 1] == key && table[(i << 1) + 1] == custId) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            table[(i << 1) + 1] = custId;
+            table[i << 1] = key;
+            size++;
+            if (size > resizeThreshold) {
+                resize(table);
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove a custId from under a fingerprint.
+     *
+     * @param fingerprint the key fingerprint
+     * @param custId      the customer ID
+     * @return true if the pair was present
+     */
+    public boolean remove(long fingerprint, long custId) {
+        long key = slotKey(fingerprint);
+        long stamp = lock.writeLock();
+        try {
+            long[] table = slots;
+            int mask = (table.length >>> 1) - 1;
+            int i = home(key, mask);
+            while (table[i << 1] != key || table[(i << 1) + 1] != custId) {
+                if (table[i << 1] == EMPTY) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            // Backward-shift deletion: pull later entries of the probe run into the hole unless
+            // that would move them before their home slot
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                long next = table[j << 1];
+                if (next == EMPTY) {
+                    break;
+                }
+                int nextHome = home(next, mask);
+                boolean movable = j > i ? (nextHome <= i || nextHome > j) : (nextHome <= i && nextHome > j);
+                if (movable) {
+                    table[i << 1] = next;
+                    table[(i << 1) + 1] = table[(j << 1) + 1];
+                    i = j;
+                }
+            }
+            table[i << 1] = EMPTY;
+            table[(i << 1) + 1] = 0L;
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return the number of (fingerprint, custId) pairs stored
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return slots.length >>> 1;
+    }
+
+    /**
+     * @return the heap retained by the slot array, in bytes
+     */
+    public long memoryBytes() {
+        return ARRAY_HEADER_BYTES + (long) slots.length * Long.BYTES;
+    }
+
+    private static long[] probe(long[] table, long key) {
+        int mask = (table.length >>> 1) - 1;
+        long[] found = NO_IDS;
+        int count = 0;
+        // Bounded by the capacity so a torn optimistic read can never loop forever
+        for (int i = home(key, mask), probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+            long slot = table[i << 1];
+            if (slot == EMPTY) {
+                break;
+            }
+            if (slot == key) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, Math.max(1, count * 2));
+                }
+                found[count++] = table[(i << 1) + 1];
+            }
+        }
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    private void resize(long[] table) {
+        long[] resized = new long[table.length << 1];
+        int mask = (resized.length >>> 1) - 1;
+        for (int s = 0; s < table.length; s += 2) {
+            long key = table[s];
+            if (key != EMPTY) {
+                int i = home(key, mask);
+                while (resized[i << 1] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                resized[i << 1] = key;
+                resized[(i << 1) + 1] = table[s + 1];
+            }
+        }
+        resizeThreshold = (int) ((resized.length >>> 1) * MAX_LOAD);
+        slots = resized;
+    }
+
+    private void allocate(int capacity) {
+        resizeThreshold = (int) (capacity * MAX_LOAD);
+        slots = new long[capacity << 1];
+    }
+
+    private static int capacityFor(int expectedEntries) {
+        int needed = (int) Math.min(1 << 29, (long) Math.ceil(Math.max(expectedEntries, 1) / MAX_LOAD));
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    private static int home(long key, int mask) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private static long slotKey(long fingerprint) {
+        return fingerprint == EMPTY ? 1L : fingerprint;
+    }
+}
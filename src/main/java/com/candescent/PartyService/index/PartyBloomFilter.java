@@ -0,0 +1,231 @@
+package com.candescent.PartyService.index;
+
+import com.candescent.PartyService.repository.PartyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Optional Bloom filters over the email and phone number fingerprints of every party.
+ *
+ * A definite "no" from the filter lets a create skip the database uniqueness probe; a "maybe" is
+ * confirmed with a query. The filters are built from a streaming scan of {@code party} on a
+ * background thread and swapped in atomically, so requests never wait for a build. Writes made
+ * while a build runs go into both the live and the new filters. Bloom filters cannot forget keys,
+ * so the filters are rebuilt every {@code app.party.bloom.rebuild-interval} to drop emails and
+ * phone numbers that updates have replaced. Like the party index, the filters do not see writes
+ * made by other instances, which the unique constraints still catch.
+ */
+@Slf4j
+@Component
+public class PartyBloomFilter {
+
+    private final boolean enabled;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final long maxMemoryBytes;
+    private final PartyRepository partyRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final Counter negativeChecks;
+    private final Counter positiveChecks;
+    private volatile Filters live;
+    private volatile Filters pending;
+
+    public PartyBloomFilter(@Value("${app.party.bloom.enabled:false}") boolean enabled,
+                            @Value("${app.party.bloom.expected-entries:1000000}") long expectedEntries,
+                            @Value("${app.party.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${app.party.bloom.max-memory:64MB}") DataSize maxMemory,
+                            PartyRepository partyRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        // Shared by the email and phone filters
+        this.maxMemoryBytes = maxMemory.toBytes() / 2;
+        this.partyRepository = partyRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.negativeChecks = Counter.builder("party.bloom.checks")
+                .description("Uniqueness checks answered by the party Bloom filter")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positiveChecks = Counter.builder("party.bloom.checks")
+                .description("Uniqueness checks answered by the party Bloom filter")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        if (enabled) {
+            registerGauges(meterRegistry, "email", filters -> filters.email);
+            registerGauges(meterRegistry, "phone", filters -> filters.phone);
+        }
+        log.info("Party Bloom filter initialized: enabled={}, expectedEntries={}, falsePositiveRate={}, maxMemory={}",
+                enabled, expectedEntries, falsePositiveRate, maxMemory);
+    }
+
+    private void registerGauges(MeterRegistry meterRegistry, String name,
+                                Function<Filters, ScalableBloomFilter> filter) {
+        Gauge.builder("party.bloom.entries", this, gauge(filter, ScalableBloomFilter::count))
+                .description("Keys in the party Bloom filter")
+                .tag("filter", name)
+                .register(meterRegistry);
+        Gauge.builder("party.bloom.memory", this, gauge(filter, ScalableBloomFilter::memoryBytes))
+                .description("Heap retained by the party Bloom filter")
+                .tag("filter", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("party.bloom.false.positive.rate", this, gauge(filter, ScalableBloomFilter::estimatedFalsePositiveRate))
+                .description("Estimated false-positive rate of the party Bloom filter")
+                .tag("filter", name)
+                .register(meterRegistry);
+    }
+
+    private static ToDoubleFunction<PartyBloomFilter> gauge(Function<Filters, ScalableBloomFilter> filter,
+                                                            ToDoubleFunction<ScalableBloomFilter> value) {
+        return bloom -> {
+            Filters filters = bloom.live;
+            return filters == null ? 0 : value.applyAsDouble(filter.apply(filters));
+        };
+    }
+
+    /**
+     * Build the filters once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            Thread warmUp = new Thread(this::rebuild, "party-bloom-build");
+            warmUp.setDaemon(true);
+            warmUp.start();
+        }
+    }
+
+    /**
+     * Rebuild the filters from the party table, dropping keys that no longer exist. Runs on the
+     * scheduler thread; the live filters keep answering until the new ones are swapped in.
+     */
+    @Scheduled(fixedDelayString = "${app.party.bloom.rebuild-interval:6h}",
+            initialDelayString = "${app.party.bloom.rebuild-interval:6h}")
+    public void rebuild() {
+        if (!enabled || !building.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Filters current = live;
+            // Leave headroom for growth until the next rebuild
+            long capacity = Math.max(expectedEntries, current == null ? 0 : current.email.count() * 5 / 4);
+            Filters next = new Filters(capacity);
+            // Published before the scan starts, so every write committed after the scan's snapshot reaches it
+            pending = next;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<PartyKeys> keys = partyRepository.streamKeys()) {
+                    keys.forEach(party -> next.add(PartyIndex.emailFingerprint(party.getEmailId()),
+                            PartyIndex.phoneFingerprint(party.getPhoneNo())));
+                }
+            });
+            live = next;
+            log.info("Party Bloom filter built in {} ms: email {} keys / {} bytes (fpp {}), phone {} keys / {} bytes (fpp {})",
+                    (System.nanoTime() - start) / 1_000_000,
+                    next.email.count(), next.email.memoryBytes(), String.format("%.4f", next.email.estimatedFalsePositiveRate()),
+                    next.phone.count(), next.phone.memoryBytes(), String.format("%.4f", next.phone.estimatedFalsePositiveRate()));
+            if (next.email.isSaturated() || next.phone.isSaturated()) {
+                log.warn("Party Bloom filter reached app.party.bloom.max-memory; its false-positive rate will rise");
+            }
+        } catch (RuntimeException e) {
+            log.error("Party Bloom filter build failed; the previous filter stays in use", e);
+        } finally {
+            pending = null;
+            building.set(false);
+        }
+    }
+
+    /**
+     * @return true if the filters are enabled and built
+     */
+    public boolean isReady() {
+        return live != null;
+    }
+
+    /**
+     * @return true if the filters are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param emailFingerprint the fingerprint of the normalized email
+     * @return false if no party has this email; true if one may, or the filter is not built yet
+     */
+    public boolean mightContainEmail(long emailFingerprint) {
+        Filters filters = live;
+        return filters == null || record(filters.email.mightContain(emailFingerprint));
+    }
+
+    /**
+     * @param phoneFingerprint the fingerprint of the normalized phone number
+     * @return false if no party has this phone number; true if one may, or the filter is not built yet
+     */
+    public boolean mightContainPhone(long phoneFingerprint) {
+        Filters filters = live;
+        return filters == null || record(filters.phone.mightContain(phoneFingerprint));
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? positiveChecks : negativeChecks).increment();
+        return mightContain;
+    }
+
+    /**
+     * Add a party's keys to the live filters and to a build in progress.
+     *
+     * @param emailFingerprint the fingerprint of the normalized email
+     * @param phoneFingerprint the fingerprint of the normalized phone number
+     */
+    public void add(long emailFingerprint, long phoneFingerprint) {
+        // pending before live: rebuild() publishes live before clearing pending, so a build that
+        // finishes between the two reads is still seen through live, never missed by both
+        Filters next = pending;
+        Filters current = live;
+        if (current != null) {
+            current.add(emailFingerprint, phoneFingerprint);
+        }
+        if (next != null && next != current) {
+            next.add(emailFingerprint, phoneFingerprint);
+        }
+    }
+
+    /**
+     * The email and phone filters of one build, swapped in together.
+     */
+    private final class Filters {
+
+        private final ScalableBloomFilter email;
+        private final ScalableBloomFilter phone;
+
+        private Filters(long capacity) {
+            this.email = new ScalableBloomFilter(capacity, falsePositiveRate, maxMemoryBytes);
+            this.phone = new ScalableBloomFilter(capacity, falsePositiveRate, maxMemoryBytes);
+        }
+
+        private void add(long emailFingerprint, long phoneFingerprint) {
+            email.put(emailFingerprint);
+            phone.put(phoneFingerprint);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.candescent.PartyService.index;
+
+import com.candescent.PartyService.common.util.StringUtils;
+import com.candescent.PartyService.repository.PartyRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-process secondary indexes from normalized email and phone number to custId.
+ *
+ * Both indexes are {@link FingerprintIndex} tables holding only a 64-bit fingerprint and the
+ * custId per party, so they stay small enough to cover the whole table. They are warmed in the
+ * background once the application is ready and kept current by the service write paths, which
+ * apply their changes after the transaction commits. Lookups return candidates only: a fingerprint
+ * can collide, and writes made by other instances are not seen, so callers confirm each candidate
+ * against the party and treat a miss as "not known here" rather than "does not exist".
+ *
+ * The same write hooks feed the {@link PartyBloomFilter}, which answers uniqueness checks when
+ * the index itself is disabled.
+ */
+@Slf4j
+@Component
+public class PartyIndex {
+
+    private static final long[] NO_CANDIDATES = new long[0];
+
+    private final boolean enabled;
+    private final FingerprintIndex emailIndex;
+    private final FingerprintIndex phoneIndex;
+    private final PartyBloomFilter bloomFilter;
+    private final PartyRepository partyRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private volatile boolean ready;
+    // Changes committed before warm-up has finished, in commit order; null once they are applied
+    private List<Runnable> pendingChanges = new ArrayList<>();
+
+    public PartyIndex(@Value("${app.party.index.enabled:false}") boolean enabled,
+                      @Value("${app.party.index.expected-entries:100000}") int expectedEntries,
+                      PartyBloomFilter bloomFilter,
+                      PartyRepository partyRepository,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.emailIndex = new FingerprintIndex(enabled ? expectedEntries : 0);
+        this.phoneIndex = new FingerprintIndex(enabled ? expectedEntries : 0);
+        this.bloomFilter = bloomFilter;
+        this.partyRepository = partyRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        if (enabled) {
+            registerGauges(meterRegistry, "email", emailIndex);
+            registerGauges(meterRegistry, "phone", phoneIndex);
+        }
+        log.info("Party index initialized: enabled={}, expectedEntries={}", enabled, expectedEntries);
+    }
+
+    private static void registerGauges(MeterRegistry meterRegistry, String name, FingerprintIndex index) {
+        Gauge.builder("party.index.entries", index, FingerprintIndex::size)
+                .description("Entries in the in-process party index")
+                .tag("index", name)
+                .register(meterRegistry);
+        Gauge.builder("party.index.memory", index, FingerprintIndex::memoryBytes)
+                .description("Heap retained by the in-process party index")
+                .tag("index", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Warm both indexes from the party table on a background thread, so startup is not delayed.
+     * Writes committed while warming are queued and replayed in order after the scan: the scan
+     * may read a row as it was before such a write, and replaying the write afterwards removes
+     * the email and phone number it replaced. Adding a pair twice is a no-op.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            Thread warmUp = new Thread(this::rebuild, "party-index-warmup");
+            warmUp.setDaemon(true);
+            warmUp.start();
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<PartyKeys> keys = partyRepository.streamKeys()) {
+                    keys.forEach(party -> add(party.getId(), party.getEmailId(), party.getPhoneNo()));
+                }
+            });
+            applyPendingChanges();
+            ready = true;
+            log.info("Party index warmed in {} ms: email {} entries / {} bytes ({} bytes per entry), "
+                            + "phone {} entries / {} bytes ({} bytes per entry)",
+                    (System.nanoTime() - start) / 1_000_000,
+                    emailIndex.size(), emailIndex.memoryBytes(), bytesPerEntry(emailIndex),
+                    phoneIndex.size(), phoneIndex.memoryBytes(), bytesPerEntry(phoneIndex));
+        } catch (RuntimeException e) {
+            log.error("Party index warm-up failed; lookups fall back to the database", e);
+            synchronized (this) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    private synchronized void applyPendingChanges() {
+        log.info("Replaying {} party key changes committed during index warm-up", pendingChanges.size());
+        pendingChanges.forEach(Runnable::run);
+        pendingChanges = null;
+    }
+
+    /**
+     * Apply a committed change now, or queue it while warm-up is running.
+     */
+    private void apply(Runnable change) {
+        synchronized (this) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+                return;
+            }
+        }
+        change.run();
+    }
+
+    private static long bytesPerEntry(FingerprintIndex index) {
+        return index.size() == 0 ? 0 : index.memoryBytes() / index.size();
+    }
+
+    /**
+     * @return true if the indexes are enabled and fully warmed
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Candidate custIds for an email, matched case-insensitively.
+     *
+     * @param emailId the email
+     * @return the candidates, empty when none are known or the index is not ready
+     */
+    public long[] findByEmail(String emailId) {
+        return isReady() ? emailIndex.find(emailFingerprint(emailId)) : NO_CANDIDATES;
+    }
+
+    /**
+     * Candidate custIds for a phone number, matched on its digits.
+     *
+     * @param phoneNo the phone number
+     * @return the candidates, empty when none are known or the index is not ready
+     */
+    public long[] findByPhone(String phoneNo) {
+        return isReady() ? phoneIndex.find(phoneFingerprint(phoneNo)) : NO_CANDIDATES;
+    }
+
+    /**
+     * @return true if {@link #mightContainEmail} and {@link #mightContainPhone} can answer "no"
+     */
+    public boolean canRuleOutKeys() {
+        return isReady() || bloomFilter.isReady();
+    }
+
+    /**
+     * Whether a party may already have this email, matched case-insensitively.
+     *
+     * @param emailId the email
+     * @return false only if no party known to this instance has the email
+     */
+    public boolean mightContainEmail(String emailId) {
+        long fingerprint = emailFingerprint(emailId);
+        return isReady() ? emailIndex.find(fingerprint).length > 0 : bloomFilter.mightContainEmail(fingerprint);
+    }
+
+    /**
+     * Whether a party may already have this phone number, matched on its digits.
+     *
+     * @param phoneNo the phone number
+     * @return false only if no party known to this instance has the phone number
+     */
+    public boolean mightContainPhone(String phoneNo) {
+        long fingerprint = phoneFingerprint(phoneNo);
+        return isReady() ? phoneIndex.find(fingerprint).length > 0 : bloomFilter.mightContainPhone(fingerprint);
+    }
+
+    /**
+     * Index a party once the surrounding transaction commits, replacing its previous keys.
+     * Outside a transaction the change is applied immediately.
+     *
+     * @param custId          the customer ID
+     * @param emailId         the committed email
+     * @param phoneNo         the committed phone number
+     * @param previousEmailId the email before the write, or null for a new party
+     * @param previousPhoneNo the phone number before the write, or null for a new party
+     */
+    public void indexAfterCommit(long custId, String emailId, String phoneNo,
+                                 String previousEmailId, String previousPhoneNo) {
+        if (!enabled && !bloomFilter.isEnabled()) {
+            return;
+        }
+        afterCommit(() -> {
+            long emailFingerprint = emailFingerprint(emailId);
+            long phoneFingerprint = phoneFingerprint(phoneNo);
+            if (enabled) {
+                Long previousEmailFingerprint = previousEmailId == null ? null : emailFingerprint(previousEmailId);
+                Long previousPhoneFingerprint = previousPhoneNo == null ? null : phoneFingerprint(previousPhoneNo);
+                apply(() -> {
+                    replace(emailIndex, custId, emailFingerprint, previousEmailFingerprint);
+                    replace(phoneIndex, custId, phoneFingerprint, previousPhoneFingerprint);
+                });
+            }
+            bloomFilter.add(emailFingerprint, phoneFingerprint);
+        });
+    }
+
+    /**
+     * Index newly inserted parties once the surrounding transaction commits.
+     *
+     * @param parties the keys of the inserted parties
+     */
+    public void indexAllAfterCommit(List<PartyKeys> parties) {
+        if ((!enabled && !bloomFilter.isEnabled()) || parties.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            for (PartyKeys party : parties) {
+                bloomFilter.add(emailFingerprint(party.getEmailId()), phoneFingerprint(party.getPhoneNo()));
+            }
+            if (enabled) {
+                apply(() -> {
+                    for (PartyKeys party : parties) {
+                        add(party.getId(), party.getEmailId(), party.getPhoneNo());
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Run an in-process index change once the surrounding transaction commits, or at once outside
+     * a transaction. Shared with {@link PartyTypeahead}.
+     */
+    static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void add(long custId, String emailId, String phoneNo) {
+        if (emailId != null) {
+            emailIndex.add(emailFingerprint(emailId), custId);
+        }
+        if (phoneNo != null) {
+            phoneIndex.add(phoneFingerprint(phoneNo), custId);
+        }
+    }
+
+    /**
+     * Add the new pair before removing the old one, so concurrent readers never miss the party.
+     */
+    private static void replace(FingerprintIndex index, long custId, long fingerprint, Long previousFingerprint) {
+        index.add(fingerprint, custId);
+        if (previousFingerprint != null && previousFingerprint != fingerprint) {
+            index.remove(previousFingerprint, custId);
+        }
+    }
+
+    static long emailFingerprint(String emailId) {
+        return FingerprintIndex.fingerprint(StringUtils.normalizeEmail(emailId));
+    }
+
+    static long phoneFingerprint(String phoneNo) {
+        return FingerprintIndex.fingerprint(StringUtils.normalizePhoneNumber(phoneNo));
+    }
+}
@@ -0,0 +1,16 @@
+package com.candescent.PartyService.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The unique keys of one party: its id, email and phone number.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PartyKeys {
+
+    private final Long id;
+    private final String emailId;
+    private final String phoneNo;
+}
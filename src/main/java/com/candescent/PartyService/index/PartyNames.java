@@ -0,0 +1,16 @@
+package com.candescent.PartyService.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The names of one party: its id, first name and last name.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PartyNames {
+
+    private final Long id;
+    private final String custFirstName;
+    private final String custLastName;
+}
@@ -0,0 +1,200 @@
+package com.candescent.PartyService.index;
+
+import com.candescent.PartyService.repository.PartyRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-process typeahead over party first and last names.
+ *
+ * Both names of every party are listed in one {@link TypeaheadIndex}, so a prefix completes
+ * either. Like the {@link PartyIndex}, it is warmed in the background once the application is
+ * ready and kept current by the service write paths after their transactions commit. Writes
+ * made by other instances are not seen until the next restart, so suggestions are a starting
+ * point for the user's choice rather than an authoritative search.
+ */
+@Slf4j
+@Component
+public class PartyTypeahead {
+
+    private final boolean enabled;
+    private final TypeaheadIndex index = new TypeaheadIndex();
+    private final PartyRepository partyRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private volatile boolean ready;
+    // Changes committed before warm-up has finished, in commit order; null once they are applied
+    private List<Runnable> pendingChanges = new ArrayList<>();
+
+    public PartyTypeahead(@Value("${app.party.typeahead.enabled:false}") boolean enabled,
+                          PartyRepository partyRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.partyRepository = partyRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        if (enabled) {
+            Gauge.builder("party.typeahead.names", index, TypeaheadIndex::names)
+                    .description("Distinct names in the party typeahead")
+                    .register(meterRegistry);
+            Gauge.builder("party.typeahead.entries", index, TypeaheadIndex::entries)
+                    .description("Name and custId pairs in the party typeahead")
+                    .register(meterRegistry);
+            Gauge.builder("party.typeahead.memory", index, TypeaheadIndex::memoryBytes)
+                    .description("Estimated heap retained by the party typeahead")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+        log.info("Party typeahead initialized: enabled={}", enabled);
+    }
+
+    /**
+     * Warm the typeahead from the party table on a background thread, so startup is not delayed.
+     * Writes committed while warming are queued and replayed in order after the scan: the scan
+     * may read a row as it was before such a write, and replaying the write afterwards removes
+     * the names it replaced. Adding a pair twice is a no-op.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            Thread warmUp = new Thread(this::rebuild, "party-typeahead-warmup");
+            warmUp.setDaemon(true);
+            warmUp.start();
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        try {
+            long[] parties = new long[1];
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<PartyNames> names = partyRepository.streamNames()) {
+                    names.forEach(party -> {
+                        index.add(party.getCustFirstName(), party.getId());
+                        index.add(party.getCustLastName(), party.getId());
+                        parties[0]++;
+                    });
+                }
+            });
+            applyPendingChanges();
+            index.trimToSize();
+            ready = true;
+            log.info("Party typeahead warmed in {} ms: {} parties, {} names, {} entries, {} bytes ({} bytes per party)",
+                    (System.nanoTime() - start) / 1_000_000, parties[0], index.names(), index.entries(),
+                    index.memoryBytes(), parties[0] == 0 ? 0 : index.memoryBytes() / parties[0]);
+        } catch (RuntimeException e) {
+            log.error("Party typeahead warm-up failed; suggestions are unavailable", e);
+            synchronized (this) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    private synchronized void applyPendingChanges() {
+        log.info("Replaying {} party name changes committed during typeahead warm-up", pendingChanges.size());
+        pendingChanges.forEach(Runnable::run);
+        pendingChanges = null;
+    }
+
+    /**
+     * Apply a committed change now, or queue it while warm-up is running.
+     */
+    private void apply(Runnable change) {
+        synchronized (this) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+                return;
+            }
+        }
+        change.run();
+    }
+
+    /**
+     * @return true if the typeahead is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if the typeahead is enabled and fully warmed
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Complete a prefix of a first or last name.
+     *
+     * @param prefix     the prefix, matched ignoring case, accents and repeated spaces
+     * @param limit      the maximum number of names
+     * @param idsPerName the maximum number of custIds returned per name
+     * @return the matching names in alphabetical order, empty when the typeahead is not ready
+     */
+    public List<TypeaheadIndex.Match> suggest(String prefix, int limit, int idsPerName) {
+        return isReady() ? index.findByPrefix(prefix, limit, idsPerName) : List.of();
+    }
+
+    /**
+     * List a party under its names once the surrounding transaction commits, replacing the names
+     * it had before. Outside a transaction the change is applied immediately.
+     *
+     * @param custId                the customer ID
+     * @param custFirstName         the committed first name
+     * @param custLastName          the committed last name
+     * @param previousCustFirstName the first name before the write, or null for a new party
+     * @param previousCustLastName  the last name before the write, or null for a new party
+     */
+    public void indexAfterCommit(long custId, String custFirstName, String custLastName,
+                                 String previousCustFirstName, String previousCustLastName) {
+        if (!enabled) {
+            return;
+        }
+        PartyIndex.afterCommit(() -> apply(() -> {
+            // Add before removing, so concurrent readers never miss the party
+            index.add(custFirstName, custId);
+            index.add(custLastName, custId);
+            removeIfReplaced(custId, previousCustFirstName, custFirstName, custLastName);
+            removeIfReplaced(custId, previousCustLastName, custFirstName, custLastName);
+        }));
+    }
+
+    /**
+     * List newly inserted parties once the surrounding transaction commits.
+     *
+     * @param parties the names of the inserted parties
+     */
+    public void indexAllAfterCommit(List<PartyNames> parties) {
+        if (!enabled || parties.isEmpty()) {
+            return;
+        }
+        PartyIndex.afterCommit(() -> apply(() -> {
+            for (PartyNames party : parties) {
+                index.add(party.getCustFirstName(), party.getId());
+                index.add(party.getCustLastName(), party.getId());
+            }
+        }));
+    }
+
+    /**
+     * Unlist a previous name unless the party still has it, as either its first or last name.
+     */
+    private void removeIfReplaced(long custId, String previousName, String custFirstName, String custLastName) {
+        String previous = TypeaheadIndex.normalize(previousName);
+        if (previous != null && !previous.equals(TypeaheadIndex.normalize(custFirstName))
+                && !previous.equals(TypeaheadIndex.normalize(custLastName))) {
+            index.remove(previousName, custId);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.candescent.PartyService.index;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scalable Bloom filter over 64-bit key fingerprints (Almeida et al., 2007).
+ *
+ * Keys go into the newest stage; once it holds its capacity a stage twice as large with half the
+ * false-positive rate is appended, so the compound false-positive rate stays below the target
+ * however many keys are added. Growth stops at the memory limit, after which the newest stage is
+ * overfilled and {@link #estimatedFalsePositiveRate()} rises. Bits are set with atomic ORs, so
+ * concurrent writers and readers need no lock. Keys cannot be removed; callers rebuild the filter
+ * to drop keys that no longer exist.
+ */
+public class ScalableBloomFilter {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    private final long maxMemoryBytes;
+    private volatile Stage[] stages;
+    private volatile boolean saturated;
+
+    /**
+     * @param initialCapacity   the keys the first stage is sized for
+     * @param falsePositiveRate the target compound false-positive rate
+     * @param maxMemoryBytes    the limit on the bit arrays of all stages together
+     */
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate, long maxMemoryBytes) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        this.maxMemoryBytes = maxMemoryBytes;
+        // Stage rates p(1-r), p(1-r)r, p(1-r)r^2, ... sum to at most p
+        this.stages = new Stage[]{new Stage(Math.max(1, initialCapacity), falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    /**
+     * @param hash the key fingerprint
+     * @return false if the key was definitely never added
+     */
+    public boolean mightContain(long hash) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add a key; keys that may already be present are not counted again.
+     *
+     * @param hash the key fingerprint
+     */
+    public void put(long hash) {
+        if (mightContain(hash)) {
+            return;
+        }
+        Stage[] current = stages;
+        Stage newest = current[current.length - 1];
+        newest.put(hash);
+        if (newest.count.incrementAndGet() >= newest.capacity && !saturated) {
+            grow(current);
+        }
+    }
+
+    private synchronized void grow(Stage[] seen) {
+        if (stages != seen) {
+            return;
+        }
+        Stage newest = seen[seen.length - 1];
+        long capacity = newest.capacity * GROWTH_FACTOR;
+        double falsePositiveRate = newest.falsePositiveRate * TIGHTENING_RATIO;
+        if (memoryBytes() + Stage.bytesFor(capacity, falsePositiveRate) > maxMemoryBytes) {
+            saturated = true;
+            return;
+        }
+        Stage[] grown = Arrays.copyOf(seen, seen.length + 1);
+        grown[seen.length] = new Stage(capacity, falsePositiveRate);
+        stages = grown;
+    }
+
+    /**
+     * @return the number of distinct keys added, approximately
+     */
+    public long count() {
+        long count = 0;
+        for (Stage stage : stages) {
+            count += stage.count.get();
+        }
+        return count;
+    }
+
+    /**
+     * @return the heap retained by the bit arrays, in bytes
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += ARRAY_HEADER_BYTES + (long) stage.words.length * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the compound false-positive rate expected for the keys added so far
+     */
+    public double estimatedFalsePositiveRate() {
+        double pass = 1;
+        for (Stage stage : stages) {
+            double fill = 1 - Math.exp(-(double) stage.hashes * stage.count.get() / stage.bits);
+            pass *= 1 - Math.pow(fill, stage.hashes);
+        }
+        return 1 - pass;
+    }
+
+    /**
+     * @return true if the memory limit stopped the filter from growing
+     */
+    public boolean isSaturated() {
+        return saturated;
+    }
+
+    private static final class Stage {
+
+        private final long[] words;
+        private final long bits;
+        private final int hashes;
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final AtomicLong count = new AtomicLong();
+
+        private Stage(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.words = new long[(int) Math.min(Integer.MAX_VALUE - 8, (bitsFor(capacity, falsePositiveRate) + 63) >>> 6)];
+            this.bits = (long) words.length << 6;
+            this.hashes = (int) Math.max(1, Math.round((double) bits / capacity * Math.log(2)));
+        }
+
+        private static long bitsFor(long capacity, double falsePositiveRate) {
+            return Math.max(Long.SIZE, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        }
+
+        private static long bytesFor(long capacity, double falsePositiveRate) {
+            return ARRAY_HEADER_BYTES + ((bitsFor(capacity, falsePositiveRate) + 63) >>> 6) * Long.BYTES;
+        }
+
+        private boolean mightContain(long hash) {
+            long h2 = secondHash(hash);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash + i * h2, bits);
+                if (((long) WORDS.getOpaque(words, (int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(long hash) {
+            long h2 = secondHash(hash);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash + i * h2, bits);
+                WORDS.getAndBitwiseOr(words, (int) (bit >>> 6), 1L << bit);
+            }
+        }
+
+        /**
+         * Second hash for double hashing, derived by remixing the fingerprint; odd so that the
+         * probe positions never collapse onto one bit.
+         */
+        private static long secondHash(long hash) {
+            long h = hash * 0x9e3779b97f4a7c15L;
+            h ^= h >>> 31;
+            return h | 1L;
+        }
+    }
+}
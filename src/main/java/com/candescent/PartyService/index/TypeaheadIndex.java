@@ -0,0 +1,322 @@
+package com.candescent.PartyService.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index from normalized names to the custIds of the parties that have them.
+ *
+ * Each distinct name is stored once, in a sorted {@link ConcurrentSkipListMap}, with its custIds
+ * in a growable {@code long[]} kept in ascending order. A party therefore costs 8 bytes per name
+ * it is listed under plus the arrays' spare capacity, and the per-name overhead is shared by
+ * every party with that name. A prefix lookup seeks to the first name at or after the prefix and
+ * walks forward until names stop matching or enough are collected, so its cost depends on the
+ * number of results rather than on the number of parties.
+ *
+ * Names are normalized by stripping accents, lower-casing and collapsing whitespace, so "José"
+ * is found by "jose". Readers take no locks: the skip list is concurrent and a name's custIds are
+ * never changed in place where a reader could see them, but replaced together with their size.
+ * Writers are serialized, so a name emptied by a removal can be unlinked without racing an add
+ * of the same name.
+ */
+public class TypeaheadIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final int MIN_CAPACITY = 1;
+
+    // Skip list node plus its share of index nodes, and the Postings object
+    private static final long NAME_OVERHEAD_BYTES = 40 + 24;
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    private final ConcurrentSkipListMap<String, Postings> names = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile int nameCount;
+    private volatile long entries;
+    private volatile long memoryBytes;
+
+    /**
+     * Normalize a name for indexing and lookup: accents stripped, lower-cased, runs of
+     * whitespace collapsed to one space and trimmed.
+     *
+     * @param name the name as entered
+     * @return the normalized name, or null if it is null or blank
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = isAscii(name)
+                ? name
+                : MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        normalized = SPACES.matcher(normalized.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the names starting with a prefix, in name order, with the lowest custIds of each.
+     *
+     * @param prefix     the prefix as entered; normalized like the names
+     * @param limit      the maximum number of names
+     * @param idsPerName the maximum number of custIds returned per name
+     * @return the matching names, empty when the prefix is blank or matches nothing
+     */
+    public List<Match> findByPrefix(String prefix, int limit, int idsPerName) {
+        String key = normalize(prefix);
+        if (key == null || limit < 1) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, Postings> entry : names.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key)) {
+                break;
+            }
+            matches.add(entry.getValue().snapshot(idsPerName));
+            if (matches.size() == limit) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * List a party under a name; listing the same pair twice is a no-op.
+     *
+     * @param name   the name as entered; blank names are ignored
+     * @param custId the customer ID
+     * @return true if the pair was added
+     */
+    public boolean add(String name, long custId) {
+        String key = normalize(name);
+        if (key == null) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Postings postings = names.get(key);
+            if (postings == null) {
+                String displayName = SPACES.matcher(name.trim()).replaceAll(" ");
+                Postings created = Postings.of(displayName.equals(key) ? key : displayName, custId);
+                names.put(key, created);
+                nameCount++;
+                entries++;
+                memoryBytes += nameBytes(key, created) + created.arrayBytes();
+                return true;
+            }
+            Postings updated = postings.with(custId);
+            if (updated == postings) {
+                return false;
+            }
+            names.put(key, updated);
+            entries++;
+            memoryBytes += updated.arrayBytes() - postings.arrayBytes();
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove a party from under a name, dropping the name once no party has it.
+     *
+     * @param name   the name as entered
+     * @param custId the customer ID
+     * @return true if the pair was present
+     */
+    public boolean remove(String name, long custId) {
+        String key = normalize(name);
+        if (key == null) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Postings postings = names.get(key);
+            if (postings == null) {
+                return false;
+            }
+            Postings updated = postings.without(custId);
+            if (updated == postings) {
+                return false;
+            }
+            entries--;
+            if (updated == null) {
+                names.remove(key);
+                nameCount--;
+                memoryBytes -= nameBytes(key, postings) + postings.arrayBytes();
+            } else {
+                names.put(key, updated);
+                memoryBytes += updated.arrayBytes() - postings.arrayBytes();
+            }
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Release the spare capacity of every name's custId array, e.g. once a bulk load is done.
+     */
+    public void trimToSize() {
+        writeLock.lock();
+        try {
+            for (Map.Entry<String, Postings> entry : names.entrySet()) {
+                Postings postings = entry.getValue();
+                Postings trimmed = postings.trimmed();
+                if (trimmed != postings) {
+                    names.put(entry.getKey(), trimmed);
+                    memoryBytes += trimmed.arrayBytes() - postings.arrayBytes();
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of distinct names
+     */
+    public int names() {
+        return nameCount;
+    }
+
+    /**
+     * @return the number of (name, custId) pairs
+     */
+    public long entries() {
+        return entries;
+    }
+
+    /**
+     * @return the estimated heap held by the index, in bytes, assuming compressed references and
+     * Latin-1 names
+     */
+    public long memoryBytes() {
+        return memoryBytes;
+    }
+
+    private static long nameBytes(String key, Postings postings) {
+        long bytes = NAME_OVERHEAD_BYTES + stringBytes(key);
+        return postings.displayName == key ? bytes : bytes + stringBytes(postings.displayName);
+    }
+
+    private static long stringBytes(String value) {
+        // String object plus its byte[]
+        return 24 + align(ARRAY_HEADER_BYTES + value.length());
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * One name as it was first entered, with the ascending custIds of the parties that have it.
+     *
+     * Instances never change what they show: a writer builds a new instance and replaces it in
+     * the map. Appending writes into the array's spare capacity past {@code size}, which readers
+     * of the old instance never look at, so it reuses the array; any other change copies it.
+     */
+    private static final class Postings {
+
+        private final String displayName;
+        private final long[] ids;
+        private final int size;
+
+        private Postings(String displayName, long[] ids, int size) {
+            this.displayName = displayName;
+            this.ids = ids;
+            this.size = size;
+        }
+
+        static Postings of(String displayName, long custId) {
+            long[] ids = new long[MIN_CAPACITY];
+            ids[0] = custId;
+            return new Postings(displayName, ids, 1);
+        }
+
+        /**
+         * @return postings with the custId added, or this instance if it is already present
+         */
+        Postings with(long custId) {
+            // New parties get ascending ids, so this is almost always an append
+            if (custId > ids[size - 1]) {
+                long[] grown = size < ids.length ? ids : Arrays.copyOf(ids, grownCapacity());
+                grown[size] = custId;
+                return new Postings(displayName, grown, size + 1);
+            }
+            int at = Arrays.binarySearch(ids, 0, size, custId);
+            if (at >= 0) {
+                return this;
+            }
+            int insertAt = -at - 1;
+            long[] copy = new long[size < ids.length ? ids.length : grownCapacity()];
+            System.arraycopy(ids, 0, copy, 0, insertAt);
+            copy[insertAt] = custId;
+            System.arraycopy(ids, insertAt, copy, insertAt + 1, size - insertAt);
+            return new Postings(displayName, copy, size + 1);
+        }
+
+        private int grownCapacity() {
+            return size + Math.max(MIN_CAPACITY, size >> 1);
+        }
+
+        /**
+         * @return postings without the custId, this instance if it is absent, or null if none remain
+         */
+        Postings without(long custId) {
+            int at = Arrays.binarySearch(ids, 0, size, custId);
+            if (at < 0) {
+                return this;
+            }
+            if (size == 1) {
+                return null;
+            }
+            long[] copy = new long[ids.length];
+            System.arraycopy(ids, 0, copy, 0, at);
+            System.arraycopy(ids, at + 1, copy, at, size - at - 1);
+            return new Postings(displayName, copy, size - 1);
+        }
+
+        Postings trimmed() {
+            return ids.length == size ? this : new Postings(displayName, Arrays.copyOf(ids, size), size);
+        }
+
+        long arrayBytes() {
+            return ARRAY_HEADER_BYTES + 8L * ids.length;
+        }
+
+        Match snapshot(int maxIds) {
+            return new Match(displayName, size, Arrays.copyOf(ids, Math.min(size, Math.max(maxIds, 0))));
+        }
+    }
+
+    /**
+     * A name matching a prefix: the name as first entered, how many parties have it, and the
+     * lowest of their custIds.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Match {
+        private final String name;
+        private final int partyCount;
+        private final long[] custIds;
+    }
+}
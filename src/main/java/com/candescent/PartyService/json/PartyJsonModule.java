@@ -0,0 +1,22 @@
+package com.candescent.PartyService.json;
+
+import com.candescent.PartyService.dto.common.ServiceRequest;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson module with hand-written codecs for the party request and response envelopes, which
+ * every API call passes through. They produce and accept the same JSON as the DTOs' annotations
+ * but skip bean introspection and per-property inclusion checks.
+ */
+public class PartyJsonModule extends SimpleModule {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PartyJsonModule() {
+        super("PartyJsonModule");
+        addSerializer(new ServiceResponseSerializer());
+        addSerializer(new PartyResponseSerializer());
+        addDeserializer((Class) ServiceRequest.class, new ServiceRequestDeserializer());
+        addDeserializer(PartyRequest.class, new PartyRequestDeserializer());
+    }
+}
@@ -0,0 +1,68 @@
+package com.candescent.PartyService.json;
+
+import com.candescent.PartyService.dto.request.PartyRequest;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.jdk.StringDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads a {@link PartyRequest} straight from the parser's tokens.
+ *
+ * String fields take the fast path for string and null tokens and leave every other token to
+ * Jackson's own {@link StringDeserializer}, so scalar coercion and error messages are unchanged;
+ * unknown properties are handled as configured on the mapper.
+ */
+public class PartyRequestDeserializer extends StdDeserializer<PartyRequest> {
+
+    public PartyRequestDeserializer() {
+        super(PartyRequest.class);
+    }
+
+    @Override
+    public PartyRequest deserialize(JsonParser parser, DeserializationContext context) {
+        String name = firstFieldName(parser, context, PartyRequest.class);
+        PartyRequest request = new PartyRequest();
+        for (; name != null; name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "custFirstName" -> request.setCustFirstName(readString(parser, context));
+                case "custLastName" -> request.setCustLastName(readString(parser, context));
+                case "emailId" -> request.setEmailId(readString(parser, context));
+                case "phoneNo" -> request.setPhoneNo(readString(parser, context));
+                default -> context.handleUnknownProperty(parser, this, request, name);
+            }
+        }
+        return request;
+    }
+
+    /**
+     * Position on the first field of an object, accepting a parser already past its start.
+     *
+     * @return the first field name, or null for an empty object
+     */
+    static String firstFieldName(JsonParser parser, DeserializationContext context, Class<?> type) {
+        if (parser.isExpectedStartObjectToken()) {
+            return parser.nextName();
+        }
+        if (parser.hasToken(JsonToken.PROPERTY_NAME)) {
+            return parser.currentName();
+        }
+        if (parser.hasToken(JsonToken.END_OBJECT)) {
+            return null;
+        }
+        context.handleUnexpectedToken(type, parser);
+        return null;
+    }
+
+    private static String readString(JsonParser parser, DeserializationContext context) {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            return parser.getString();
+        }
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return StringDeserializer.instance.deserialize(parser, context);
+    }
+}
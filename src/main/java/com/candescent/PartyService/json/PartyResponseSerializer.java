@@ -0,0 +1,46 @@
+package com.candescent.PartyService.json;
+
+import com.candescent.PartyService.dto.response.PartyResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a {@link PartyResponse} field by field with pre-encoded names, producing the same JSON
+ * as its annotations: fields in declaration order, nulls omitted and {@code version} left out.
+ */
+public class PartyResponseSerializer extends StdSerializer<PartyResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CUST_FIRST_NAME = new SerializedString("custFirstName");
+    private static final SerializedString CUST_LAST_NAME = new SerializedString("custLastName");
+    private static final SerializedString EMAIL_ID = new SerializedString("emailId");
+    private static final SerializedString PHONE_NO = new SerializedString("phoneNo");
+
+    public PartyResponseSerializer() {
+        super(PartyResponse.class);
+    }
+
+    @Override
+    public void serialize(PartyResponse party, JsonGenerator generator, SerializationContext context) {
+        write(party, generator);
+    }
+
+    static void write(PartyResponse party, JsonGenerator generator) {
+        generator.writeStartObject(party);
+        writeField(generator, ID, party.getId());
+        writeField(generator, CUST_FIRST_NAME, party.getCustFirstName());
+        writeField(generator, CUST_LAST_NAME, party.getCustLastName());
+        writeField(generator, EMAIL_ID, party.getEmailId());
+        writeField(generator, PHONE_NO, party.getPhoneNo());
+        generator.writeEndObject();
+    }
+
+    static void writeField(JsonGenerator generator, SerializedString name, String value) {
+        if (value != null) {
+            generator.writeName(name);
+            generator.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.candescent.PartyService.json;
+
+import com.candescent.PartyService.dto.common.ServiceRequest;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads the {@link ServiceRequest} envelope straight from the parser's tokens.
+ *
+ * The payload deserializer is resolved once per envelope type, such as
+ * {@code ServiceRequest<PartyRequest>} or {@code ServiceRequest<List<PartyRequest>>}, when Jackson
+ * contextualizes this deserializer, and then reused for every request.
+ */
+public class ServiceRequestDeserializer extends StdDeserializer<ServiceRequest<?>> {
+
+    private final ValueDeserializer<Object> partyDataDeserializer;
+
+    public ServiceRequestDeserializer() {
+        this(null);
+    }
+
+    private ServiceRequestDeserializer(ValueDeserializer<Object> partyDataDeserializer) {
+        super(ServiceRequest.class);
+        this.partyDataDeserializer = partyDataDeserializer;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) {
+        JavaType type = property != null ? property.getType() : context.getContextualType();
+        JavaType partyDataType = type == null ? context.constructType(Object.class) : type.containedTypeOrUnknown(0);
+        return new ServiceRequestDeserializer(context.findContextualValueDeserializer(partyDataType, property));
+    }
+
+    @Override
+    public ServiceRequest<?> deserialize(JsonParser parser, DeserializationContext context) {
+        String name = PartyRequestDeserializer.firstFieldName(parser, context, ServiceRequest.class);
+        ServiceRequest<Object> request = new ServiceRequest<>();
+        for (; name != null; name = parser.nextName()) {
+            JsonToken token = parser.nextToken();
+            if ("partyData".equals(name)) {
+                request.setPartyData(token == JsonToken.VALUE_NULL
+                        ? partyDataDeserializer.getNullValue(context)
+                        : partyDataDeserializer.deserialize(parser, context));
+            } else {
+                context.handleUnknownProperty(parser, this, request, name);
+            }
+        }
+        return request;
+    }
+}
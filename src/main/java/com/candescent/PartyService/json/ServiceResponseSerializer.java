@@ -0,0 +1,46 @@
+package com.candescent.PartyService.json;
+
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.candescent.PartyService.json.PartyResponseSerializer.writeField;
+
+/**
+ * Writes the {@link ServiceResponse} envelope field by field with pre-encoded names, omitting
+ * nulls as its annotations do. A {@link PartyResponse} payload is written inline; any other
+ * payload goes through the serializer Jackson has for its runtime type.
+ */
+public class ServiceResponseSerializer extends StdSerializer<ServiceResponse<?>> {
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString ERROR_DESCRIPTION = new SerializedString("errorDescription");
+    private static final SerializedString PARTY_DATA = new SerializedString("partyData");
+
+    @SuppressWarnings("unchecked")
+    public ServiceResponseSerializer() {
+        super((Class<ServiceResponse<?>>) (Class<?>) ServiceResponse.class);
+    }
+
+    @Override
+    public void serialize(ServiceResponse<?> response, JsonGenerator generator, SerializationContext context) {
+        generator.writeStartObject(response);
+        writeField(generator, STATUS, response.getStatus());
+        writeField(generator, MESSAGE, response.getMessage());
+        writeField(generator, ERROR_DESCRIPTION, response.getErrorDescription());
+        Object partyData = response.getPartyData();
+        if (partyData != null) {
+            generator.writeName(PARTY_DATA);
+            if (partyData instanceof PartyResponse party) {
+                PartyResponseSerializer.write(party, generator);
+            } else {
+                context.writeValue(generator, partyData);
+            }
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,37 @@
+package com.candescent.PartyService.mapper;
+
+import com.candescent.PartyService.dto.response.PartyImportJobResponse;
+import com.candescent.PartyService.entities.PartyImportJobEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting party import job entities to DTOs.
+ */
+@Component
+public class PartyImportJobMapper {
+
+    /**
+     * Convert PartyImportJobEntity to PartyImportJobResponse.
+     *
+     * @param entity the import job entity
+     * @return the import job response
+     */
+    public PartyImportJobResponse toResponse(PartyImportJobEntity entity) {
+
+        if (entity == null) {
+            return null;
+        }
+        return PartyImportJobResponse.builder()
+                .jobId(entity.getJobId())
+                .status(entity.getStatus().name())
+                .format(entity.getFormat().name())
+                .rowsRead(entity.getRowsRead())
+                .rowsStaged(entity.getRowsStaged())
+                .rowsImported(entity.getRowsImported())
+                .rowsRejected(entity.getRowsRejected())
+                .startedTs(entity.getStartedTs())
+                .finishedTs(entity.getFinishedTs())
+                .errorDescription(entity.getErrorDescription())
+                .build();
+    }
+}
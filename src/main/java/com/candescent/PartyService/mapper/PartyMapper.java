@@ -47,6 +47,7 @@ public class PartyMapper {
                 .custLastName(entity.getCustLastName())
                 .emailId(entity.getEmailId())
                 .phoneNo(entity.getPhoneNo())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -0,0 +1,50 @@
+package com.candescent.PartyService.outbox;
+
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Change sink that appends relayed changes to a file as NDJSON, one change per line, for local
+ * testing. Enabled with {@code app.party.outbox.sink=file}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.party.outbox.sink", havingValue = "file")
+public class FilePartyChangeSink implements PartyChangeSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FilePartyChangeSink(@Value("${app.party.outbox.file-sink.path:${java.io.tmpdir}/party-changes.ndjson}") Path path,
+                               ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        log.info("File party change sink initialized: path={}", path);
+    }
+
+    @Override
+    public synchronized void publish(List<PartyChangeEvent> events) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (PartyChangeEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append party changes to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.candescent.PartyService.outbox;
+
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Change sink that keeps the most recent relayed changes in memory, for local testing.
+ * Enabled with {@code app.party.outbox.sink=memory}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.party.outbox.sink", havingValue = "memory")
+public class InMemoryPartyChangeSink implements PartyChangeSink {
+
+    private final int capacity;
+    private final Deque<PartyChangeEvent> events = new ArrayDeque<>();
+
+    public InMemoryPartyChangeSink(@Value("${app.party.outbox.memory-sink.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+        log.info("In-memory party change sink initialized: capacity={}", capacity);
+    }
+
+    @Override
+    public synchronized void publish(List<PartyChangeEvent> batch) {
+        for (PartyChangeEvent event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * @return the retained changes, oldest first
+     */
+    public synchronized List<PartyChangeEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * Drop the retained changes.
+     */
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package com.candescent.PartyService.outbox;
+
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+
+import java.util.List;
+
+/**
+ * Destination of relayed party changes, e.g. a message broker.
+ *
+ * Every sink bean receives each batch the outbox relay drains, in position order. A batch is
+ * published inside the relay transaction, so a failing sink makes the relay retry the batch later,
+ * and a batch may be delivered again if the commit fails after it was published: sinks must
+ * tolerate duplicates, which carry the same position.
+ */
+public interface PartyChangeSink {
+
+    /**
+     * Publish a batch of changes.
+     *
+     * @param events the changes, in position order
+     */
+    void publish(List<PartyChangeEvent> events);
+}
@@ -0,0 +1,8 @@
+package com.candescent.PartyService.outbox;
+
+/**
+ * Kind of change recorded in the party outbox. Stored by name in {@code party_outbox.change_type}.
+ */
+public enum PartyChangeType {
+    CREATED, UPDATED
+}
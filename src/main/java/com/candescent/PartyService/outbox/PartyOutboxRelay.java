@@ -0,0 +1,148 @@
+package com.candescent.PartyService.outbox;
+
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+import com.candescent.PartyService.repository.PartyOutboxRepository;
+import com.candescent.PartyService.service.PartyChangeService;
+import com.candescent.PartyService.service.PartyStreamService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Drains the party outbox to the configured {@link PartyChangeSink}s and the change feed.
+ *
+ * Every instance runs the relay, but only the one holding the relay lock drains; the others only
+ * look up the feed head so that their waiting change feed polls and stream subscribers are served. Each batch is numbered
+ * and published in one transaction, so a failed publish leaves the batch pending for the next run.
+ */
+@Slf4j
+@Component
+public class PartyOutboxRelay {
+
+    private final PartyOutboxRepository partyOutboxRepository;
+    private final PartyChangeService partyChangeService;
+    private final PartyStreamService partyStreamService;
+    private final List<PartyChangeSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+    private final Counter relayedChanges;
+    private final Counter failedRuns;
+
+    public PartyOutboxRelay(PartyOutboxRepository partyOutboxRepository,
+                            PartyChangeService partyChangeService,
+                            PartyStreamService partyStreamService,
+                            List<PartyChangeSink> sinks,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.party.outbox.batch-size:500}") int batchSize,
+                            @Value("${app.party.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                            @Value("${app.party.outbox.retention:7d}") Duration retention) {
+        this.partyOutboxRepository = partyOutboxRepository;
+        this.partyChangeService = partyChangeService;
+        this.partyStreamService = partyStreamService;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+        this.relayedChanges = Counter.builder("party.outbox.relayed")
+                .description("Party changes relayed from the outbox")
+                .register(meterRegistry);
+        this.failedRuns = Counter.builder("party.outbox.relay.failures")
+                .description("Outbox relay runs that failed and were left for the next run")
+                .register(meterRegistry);
+        log.info("Party outbox relay initialized: batchSize={}, maxBatchesPerRun={}, retention={}, sinks={}",
+                batchSize, maxBatchesPerRun, retention, sinks.stream().map(sink -> sink.getClass().getSimpleName()).toList());
+    }
+
+    /**
+     * Relay pending changes, up to {@code app.party.outbox.max-batches-per-run} batches.
+     */
+    @Scheduled(fixedDelayString = "${app.party.outbox.relay-interval:500ms}")
+    public void relay() {
+        long head = -1;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<PartyChangeEvent> events = transactionTemplate.execute(status -> relayBatch());
+                if (events == null) {
+                    // Another instance is relaying
+                    break;
+                }
+                if (!events.isEmpty()) {
+                    head = events.get(events.size() - 1).getPosition();
+                    relayedChanges.increment(events.size());
+                }
+                if (events.size() < batchSize) {
+                    break;
+                }
+            }
+            if (head < 0 && (partyChangeService.hasWaiters() || partyStreamService.hasSubscribers())) {
+                head = partyOutboxRepository.findHeadPosition();
+            }
+        } catch (RuntimeException e) {
+            failedRuns.increment();
+            log.warn("Party outbox relay failed; pending changes are retried on the next run: {}", e.getMessage());
+        }
+        if (head >= 0) {
+            partyChangeService.onRelayed(head);
+            streamChanges(head);
+        }
+    }
+
+    private void streamChanges(long head) {
+        try {
+            partyStreamService.onRelayed(head);
+        } catch (RuntimeException e) {
+            log.warn("Failed to stream party changes up to position {}: {}", head, e.getMessage());
+        }
+    }
+
+    /**
+     * @return the relayed batch, or null if the relay lock is held elsewhere
+     */
+    private List<PartyChangeEvent> relayBatch() {
+        if (!partyOutboxRepository.tryLockRelay()) {
+            return null;
+        }
+        List<PartyChangeEvent> events = partyOutboxRepository.relay(batchSize);
+        if (!events.isEmpty()) {
+            for (PartyChangeSink sink : sinks) {
+                sink.publish(events);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Delete relayed changes older than {@code app.party.outbox.retention}. Consumers that fall
+     * further behind must resynchronize from the export.
+     */
+    @Scheduled(fixedDelayString = "${app.party.outbox.purge-interval:1h}")
+    public void purge() {
+        Instant before = Instant.now().minus(retention);
+        try {
+            long purged = 0;
+            int deleted;
+            do {
+                deleted = partyOutboxRepository.purge(before, batchSize * 10);
+                purged += deleted;
+            } while (deleted > 0);
+            if (purged > 0) {
+                log.info("Purged {} party outbox changes recorded before {}", purged, before);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Party outbox purge failed: {}", e.getMessage());
+        }
+    }
+}
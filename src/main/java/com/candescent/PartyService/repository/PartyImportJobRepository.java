@@ -0,0 +1,86 @@
+package com.candescent.PartyService.repository;
+
+import com.candescent.PartyService.dataloader.PartyImportStatus;
+import com.candescent.PartyService.entities.PartyImportJobEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for PartyImportJobEntity.
+ */
+@Repository
+public interface PartyImportJobRepository extends JpaRepository<PartyImportJobEntity, String> {
+
+    /**
+     * Find the jobs owned by a node that are in one of the given states.
+     *
+     * @param node     the node that accepted the jobs
+     * @param statuses the job states
+     * @return the jobs, oldest first
+     */
+    List<PartyImportJobEntity> findByNodeAndStatusInOrderByStartedTs(String node, Collection<PartyImportStatus> statuses);
+
+    /**
+     * Record that a node is still working on its jobs in the given states.
+     *
+     * @param node     the node that owns the jobs
+     * @param statuses the job states
+     * @param now      the heartbeat time
+     * @return the number of jobs touched
+     */
+    @Modifying
+    @Query("update PartyImportJobEntity j set j.heartbeatTs = :now where j.node = :node and j.status in :statuses")
+    int touchByNode(String node, Collection<PartyImportStatus> statuses, Instant now);
+
+    /**
+     * Find the jobs in the given states owned by other nodes that have not sent a heartbeat since a
+     * given time. Jobs from before heartbeats were recorded count from their start.
+     *
+     * @param node     the node asking, whose own jobs are excluded
+     * @param statuses the job states
+     * @param cutoff   the time of the last expected heartbeat
+     * @return the jobs, oldest first
+     */
+    @Query("select j from PartyImportJobEntity j where j.node <> :node and j.status in :statuses "
+            + "and coalesce(j.heartbeatTs, j.startedTs) < :cutoff order by j.startedTs")
+    List<PartyImportJobEntity> findStale(String node, Collection<PartyImportStatus> statuses, Instant cutoff);
+
+    /**
+     * Move a job to another node, provided its owner is still the one seen as stale and has not
+     * sent a heartbeat since. Of several nodes claiming the same job, only one succeeds.
+     *
+     * @param jobId        the job id
+     * @param previousNode the node the job was found on
+     * @param node         the node taking the job over
+     * @param cutoff       the time of the last expected heartbeat
+     * @param now          the heartbeat time of the new owner
+     * @return 1 if the job was claimed, 0 otherwise
+     */
+    @Modifying
+    @Query("update PartyImportJobEntity j set j.node = :node, j.heartbeatTs = :now where j.jobId = :jobId "
+            + "and j.node = :previousNode and coalesce(j.heartbeatTs, j.startedTs) < :cutoff")
+    int claim(String jobId, String previousNode, String node, Instant cutoff, Instant now);
+
+    /**
+     * Find the most recent jobs.
+     *
+     * @param limit the maximum number of jobs
+     * @return the jobs, most recent first
+     */
+    List<PartyImportJobEntity> findAllByOrderByStartedTsDesc(Limit limit);
+
+    /**
+     * Find the jobs that finished before a given time.
+     *
+     * @param finishedTs the cut-off time
+     * @return the jobs
+     */
+    List<PartyImportJobEntity> findByFinishedTsBefore(Instant finishedTs);
+}
@@ -0,0 +1,180 @@
+package com.candescent.PartyService.repository;
+
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.outbox.PartyChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC repository for the {@code party_outbox} table.
+ *
+ * Writers append rows on the connection of their own transaction, so a change and its outbox row
+ * commit or roll back together. Rows get no position until the relay drains them; the relay holds
+ * a transaction-scoped advisory lock while numbering, so positions follow commit order and a
+ * reader resuming from a position cannot skip a change that committed after a later one.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartyOutboxRepository {
+
+    // Arbitrary application-wide key of the relay's advisory lock
+    private static final long RELAY_LOCK_KEY = 0x7061727479L;
+
+    // Writers flush the party row first, so the change is stamped with the party's own modified_ts
+    private static final String INSERT_SQL = "INSERT INTO party_outbox "
+            + "(party_id, change_type, version, cust_first_name, cust_last_name, email_id, phone_no, created_ts) "
+            + "VALUES (:partyId, :changeType, :version, :custFirstName, :custLastName, :emailId, :phoneNo, "
+            + "COALESCE((SELECT modified_ts FROM party WHERE id = :partyId), now()))";
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(:key)";
+
+    // Volatile select-list expressions run after ORDER BY and LIMIT, so positions follow id order
+    private static final String RELAY_SQL = """
+            WITH pending AS (
+                SELECT id, nextval('party_outbox_position_seq') AS position
+                FROM party_outbox
+                WHERE position IS NULL
+                ORDER BY id
+                LIMIT :limit
+            )
+            UPDATE party_outbox o SET position = p.position
+            FROM pending p
+            WHERE o.id = p.id
+            RETURNING o.position, o.party_id, o.change_type, o.version, o.cust_first_name, o.cust_last_name,
+                      o.email_id, o.phone_no, o.created_ts
+            """;
+
+    private static final String FIND_AFTER_SQL = "SELECT position, party_id, change_type, version, cust_first_name, "
+            + "cust_last_name, email_id, phone_no, created_ts FROM party_outbox "
+            + "WHERE position > :position ORDER BY position LIMIT :limit";
+
+    private static final String HEAD_POSITION_SQL = "SELECT COALESCE(MAX(position), 0) FROM party_outbox";
+
+    private static final String PURGE_SQL = "DELETE FROM party_outbox WHERE id IN ("
+            + "SELECT id FROM party_outbox WHERE position IS NOT NULL AND created_ts < :before LIMIT :limit)";
+
+    private static final RowMapper<PartyChangeEvent> EVENT_MAPPER = (rs, rowNum) -> PartyChangeEvent.builder()
+            .position(rs.getLong("position"))
+            .type(PartyChangeType.valueOf(rs.getString("change_type")))
+            .version(rs.getLong("version"))
+            .occurredAt(rs.getObject("created_ts", OffsetDateTime.class).toInstant())
+            .party(PartyResponse.builder()
+                    .id(String.valueOf(rs.getLong("party_id")))
+                    .custFirstName(rs.getString("cust_first_name"))
+                    .custLastName(rs.getString("cust_last_name"))
+                    .emailId(rs.getString("email_id"))
+                    .phoneNo(rs.getString("phone_no"))
+                    .version(rs.getLong("version"))
+                    .build())
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Record a change to a party in the current transaction.
+     *
+     * @param type  the kind of change
+     * @param party the party as written
+     */
+    public void append(PartyChangeType type, PartyResponse party) {
+        jdbcTemplate.update(INSERT_SQL, params(type, party));
+    }
+
+    /**
+     * Record changes to several parties in the current transaction, as one JDBC batch.
+     *
+     * @param type    the kind of change
+     * @param parties the parties as written
+     */
+    public void appendAll(PartyChangeType type, List<PartyResponse> parties) {
+        if (parties.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[parties.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = params(type, parties.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    private static MapSqlParameterSource params(PartyChangeType type, PartyResponse party) {
+        return new MapSqlParameterSource()
+                .addValue("partyId", Long.valueOf(party.getId()))
+                .addValue("changeType", type.name())
+                .addValue("version", party.getVersion())
+                .addValue("custFirstName", party.getCustFirstName())
+                .addValue("custLastName", party.getCustLastName())
+                .addValue("emailId", party.getEmailId())
+                .addValue("phoneNo", party.getPhoneNo());
+    }
+
+    /**
+     * Take the relay lock until the current transaction ends, without waiting.
+     *
+     * @return false if another relay holds it
+     */
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK_SQL,
+                new MapSqlParameterSource("key", RELAY_LOCK_KEY), Boolean.class));
+    }
+
+    /**
+     * Assign positions to the oldest unrelayed changes. Call only while holding the relay lock.
+     *
+     * @param limit the maximum number of changes
+     * @return the relayed changes, in position order
+     */
+    public List<PartyChangeEvent> relay(int limit) {
+        List<PartyChangeEvent> events = jdbcTemplate.query(RELAY_SQL, new MapSqlParameterSource("limit", limit), EVENT_MAPPER);
+        // RETURNING does not guarantee order
+        events.sort(Comparator.comparingLong(PartyChangeEvent::getPosition));
+        return events;
+    }
+
+    /**
+     * Fetch relayed changes after a given position, in position order.
+     *
+     * @param position only changes after this position are returned
+     * @param limit    the maximum number of changes
+     * @return the changes
+     */
+    public List<PartyChangeEvent> findAfter(long position, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("position", position)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_AFTER_SQL, params, EVENT_MAPPER);
+    }
+
+    /**
+     * @return the position of the latest relayed change, or 0 if there is none
+     */
+    public long findHeadPosition() {
+        Long head = jdbcTemplate.getJdbcTemplate().queryForObject(HEAD_POSITION_SQL, Long.class);
+        return head == null ? 0 : head;
+    }
+
+    /**
+     * Delete relayed changes recorded before a given time.
+     *
+     * @param before the retention cut-off
+     * @param limit  the maximum number of rows to delete
+     * @return the number of rows deleted
+     */
+    public int purge(Instant before, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("before", before.atOffset(ZoneOffset.UTC))
+                .addValue("limit", limit);
+        return jdbcTemplate.update(PURGE_SQL, params);
+    }
+}
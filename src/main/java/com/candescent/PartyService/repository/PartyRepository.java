@@ -1,10 +1,21 @@
 package com.candescent.PartyService.repository;
 
+import com.candescent.PartyService.dto.response.PartyResponse;
 import com.candescent.PartyService.entities.PartyEntity;
+import com.candescent.PartyService.index.PartyKeys;
+import com.candescent.PartyService.index.PartyNames;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for PartyEntity.
@@ -27,5 +38,123 @@ public interface PartyRepository extends JpaRepository<PartyEntity, Long> {
      * @return true if exists, false otherwise
      */
     boolean existsByEmailId(String emailId);
-}
 
+    /**
+     * Check if party exists with given phone number.
+     *
+     * @param phoneNo the phone number
+     * @return true if exists, false otherwise
+     */
+    boolean existsByPhoneNo(String phoneNo);
+
+    /**
+     * Find the party with the lowest id whose email matches case-insensitively.
+     * Served by the {@code lower(email_id)} expression index.
+     *
+     * @param normalizedEmail the trimmed, lower-case email
+     * @return Optional containing the party if found
+     */
+    @Query(value = "SELECT * FROM party WHERE lower(email_id) = :email ORDER BY id LIMIT 1", nativeQuery = true)
+    Optional<PartyEntity> findFirstByNormalizedEmail(@Param("email") String normalizedEmail);
+
+    /**
+     * Find the party with the lowest id whose phone number has the given digits, ignoring
+     * spaces, dashes, parentheses and a leading plus. Served by the digits-only expression index.
+     *
+     * @param normalizedPhone the digits of the phone number
+     * @return Optional containing the party if found
+     */
+    @Query(value = "SELECT * FROM party WHERE regexp_replace(phone_no, '[^0-9]', '', 'g') = :phone "
+            + "ORDER BY id LIMIT 1", nativeQuery = true)
+    Optional<PartyEntity> findFirstByNormalizedPhone(@Param("phone") String normalizedPhone);
+
+    /**
+     * Find the version of a party, the value behind its ETag, without loading it.
+     *
+     * @param id the party ID
+     * @return Optional containing the version if the party exists
+     */
+    @Query("select p.version from PartyEntity p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Fetch the parties after a given id, in id order (keyset pagination).
+     * Rows are projected straight into {@link PartyResponse}, so no entities are loaded into the
+     * persistence context.
+     *
+     * @param afterId  only parties with a greater id are returned
+     * @param lastName optional exact last name filter
+     * @param limit    the maximum number of rows
+     * @return the page of parties
+     */
+    @Query("select new com.candescent.PartyService.dto.response.PartyResponse("
+            + "cast(p.id as String), p.custFirstName, p.custLastName, p.emailId, p.phoneNo, p.version) "
+            + "from PartyEntity p "
+            + "where p.id > :afterId "
+            + "and (:lastName is null or p.custLastName = :lastName) "
+            + "order by p.id")
+    List<PartyResponse> findPageAfter(@Param("afterId") long afterId,
+                                      @Param("lastName") String lastName,
+                                      Limit limit);
+
+    /**
+     * Fetch the parties with an email in a domain after a given id, in id order (keyset pagination).
+     * The domain is compared with equality on the expression that
+     * {@code idx_party_email_domain} (db/party-indexes.sql) indexes together with id, so a page
+     * is one index range scan however rare the domain is; a {@code LIKE '%@domain'} filter could
+     * only walk the id index until it found enough matches.
+     *
+     * @param afterId     only parties with a greater id are returned
+     * @param lastName    optional exact last name filter
+     * @param emailDomain the lower-case email domain, e.g. {@code example.com}
+     * @param limit       the maximum number of rows
+     * @return the page of parties
+     */
+    @Query("select new com.candescent.PartyService.dto.response.PartyResponse("
+            + "cast(p.id as String), p.custFirstName, p.custLastName, p.emailId, p.phoneNo, p.version) "
+            + "from PartyEntity p "
+            + "where lower(function('split_part', p.emailId, '@', 2)) = :emailDomain "
+            + "and p.id > :afterId "
+            + "and (:lastName is null or p.custLastName = :lastName) "
+            + "order by p.id")
+    List<PartyResponse> findPageAfterInEmailDomain(@Param("afterId") long afterId,
+                                                   @Param("lastName") String lastName,
+                                                   @Param("emailDomain") String emailDomain,
+                                                   Limit limit);
+
+    /**
+     * Stream every party after a given id, in id order, through a server-side cursor.
+     * Must be called inside a transaction and the stream must be closed; entities are loaded
+     * read-only and should be detached by the caller once processed.
+     *
+     * @param afterId only parties with a greater id are returned
+     * @return the stream of parties
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from PartyEntity p where p.id > :afterId order by p.id")
+    Stream<PartyEntity> streamAllAfter(@Param("afterId") long afterId);
+
+    /**
+     * Stream the id, email and phone number of every party through a server-side cursor.
+     * Must be called inside a transaction and the stream must be closed.
+     *
+     * @return the stream of party keys
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("select new com.candescent.PartyService.index.PartyKeys(p.id, p.emailId, p.phoneNo) from PartyEntity p")
+    Stream<PartyKeys> streamKeys();
+
+    /**
+     * Stream the id, first name and last name of every party in id order, through a server-side
+     * cursor. Must be called inside a transaction and the stream must be closed.
+     *
+     * @return the stream of party names
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("select new com.candescent.PartyService.index.PartyNames(p.id, p.custFirstName, p.custLastName) "
+            + "from PartyEntity p order by p.id")
+    Stream<PartyNames> streamNames();
+}
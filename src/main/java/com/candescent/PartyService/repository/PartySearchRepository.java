@@ -0,0 +1,69 @@
+package com.candescent.PartyService.repository;
+
+import com.candescent.PartyService.dto.response.PartyResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JDBC repository for fuzzy party search by name.
+ *
+ * Names are matched with {@code pg_trgm} word similarity, which finds a search term inside a
+ * longer name and tolerates typos, and is answered from the trigram GIN indexes on
+ * {@code cust_first_name} and {@code cust_last_name}. The similarity threshold and a statement
+ * timeout are set for the current transaction only, so they never leak to other users of the
+ * pooled connection.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartySearchRepository {
+
+    private static final String SETTINGS_SQL = "SELECT set_config('statement_timeout', :timeout, true), "
+            + "set_config('pg_trgm.word_similarity_threshold', :threshold, true)";
+
+    // <% is the indexable form of word_similarity(term, name) >= threshold
+    private static final String SEARCH_SQL = """
+            SELECT id, cust_first_name, cust_last_name, email_id, phone_no, version,
+                   greatest(word_similarity(:term, cust_first_name), word_similarity(:term, cust_last_name)) AS score
+            FROM party
+            WHERE :term <% cust_first_name OR :term <% cust_last_name
+            ORDER BY score DESC, id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<PartyResponse> PARTY_MAPPER = (rs, rowNum) -> PartyResponse.builder()
+            .id(String.valueOf(rs.getLong("id")))
+            .custFirstName(rs.getString("cust_first_name"))
+            .custLastName(rs.getString("cust_last_name"))
+            .emailId(rs.getString("email_id"))
+            .phoneNo(rs.getString("phone_no"))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Find the parties whose first or last name best matches a term. Must run in a transaction.
+     *
+     * @param term          the name or part of a name
+     * @param limit         the maximum number of parties
+     * @param minSimilarity the minimum word similarity, between 0 and 1
+     * @param timeout       the longest the search may run
+     * @return the matching parties, best match first
+     * @throws org.springframework.dao.QueryTimeoutException if the search runs longer than the timeout
+     */
+    public List<PartyResponse> search(String term, int limit, double minSimilarity, Duration timeout) {
+        jdbcTemplate.query(SETTINGS_SQL, new MapSqlParameterSource()
+                .addValue("timeout", timeout.toMillis() + "ms")
+                .addValue("threshold", String.valueOf(minSimilarity)), resultSet -> null);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SEARCH_SQL, params, PARTY_MAPPER);
+    }
+}
@@ -0,0 +1,323 @@
+package com.candescent.PartyService.repository;
+
+import com.candescent.PartyService.common.util.StringUtils;
+import com.candescent.PartyService.dataloader.PartyRecordReader.PartyRecord;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyImportRejection;
+import com.candescent.PartyService.index.PartyKeys;
+import com.candescent.PartyService.index.PartyNames;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC repository for the {@code party_import_staging} and {@code party_import_rejection} tables
+ * used by bulk imports.
+ *
+ * Rows are loaded with PostgreSQL {@code COPY}, deduplicated inside the file with window functions,
+ * and merged into {@code party} with {@code INSERT ... ON CONFLICT DO NOTHING}. Rows that are not
+ * imported are recorded as rejections by the same statement that rejects them, and rows that are
+ * imported are appended to {@code party_outbox} by the same statement that inserts them, so the
+ * caller can commit each step together with its job checkpoint.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartyStagingRepository {
+
+    /**
+     * Ids handed out per {@code entity_seq} value; must match the allocationSize on BaseEntity so
+     * merged rows use the same pooled id ranges as Hibernate and never collide with them.
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String COPY_SQL = "COPY party_import_staging "
+            + "(job_id, line_no, cust_first_name, cust_last_name, email_id, phone_no, email_key, phone_key) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MARK_DUPLICATES_SQL = """
+            WITH duplicates AS (
+                UPDATE party_import_staging s SET duplicate = TRUE
+                FROM (
+                    SELECT line_no,
+                           row_number() OVER (PARTITION BY email_key ORDER BY line_no) AS email_rank,
+                           row_number() OVER (PARTITION BY phone_key ORDER BY line_no) AS phone_rank
+                    FROM party_import_staging
+                    WHERE job_id = :jobId
+                ) r
+                WHERE s.job_id = :jobId AND s.line_no = r.line_no AND (r.email_rank > 1 OR r.phone_rank > 1)
+                RETURNING s.line_no
+            )
+            INSERT INTO party_import_rejection (job_id, line_no, reason)
+            SELECT :jobId, line_no, :reason FROM duplicates
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String MERGE_SQL = """
+            WITH staged AS (
+                SELECT line_no, cust_first_name, cust_last_name, email_id, phone_no
+                FROM party_import_staging
+                WHERE job_id = :jobId AND line_no > :fromLine AND line_no <= :toLine AND NOT duplicate
+            ), batch AS (
+                SELECT s.*, row_number() OVER (ORDER BY s.line_no) - 1 AS seq
+                FROM staged s
+                WHERE NOT EXISTS (SELECT 1 FROM party p WHERE p.phone_no = s.phone_no)
+            ), blocks AS (
+                SELECT block, nextval('entity_seq') AS hi
+                FROM generate_series(0, (SELECT (count(*) - 1) / :blockSize FROM batch)) AS block
+            ), inserted AS (
+                INSERT INTO party (id, cust_first_name, cust_last_name, email_id, phone_no, created_ts, modified_ts)
+                SELECT k.hi - :blockSize + 1 + b.seq % :blockSize,
+                       b.cust_first_name, b.cust_last_name, b.email_id, b.phone_no, :now, :now
+                FROM batch b JOIN blocks k ON k.block = b.seq / :blockSize
+                ORDER BY b.line_no
+                ON CONFLICT (email_id) DO NOTHING
+                RETURNING id, cust_first_name, cust_last_name, email_id, phone_no
+            ), outboxed AS (
+                INSERT INTO party_outbox (party_id, change_type, version, cust_first_name, cust_last_name, email_id, phone_no, created_ts)
+                SELECT id, 'CREATED', 0, cust_first_name, cust_last_name, email_id, phone_no, :now
+                FROM inserted
+                ORDER BY id
+            ), rejected AS (
+                INSERT INTO party_import_rejection (job_id, line_no, reason)
+                SELECT :jobId, s.line_no, :reason
+                FROM staged s
+                WHERE NOT EXISTS (SELECT 1 FROM inserted i WHERE i.email_id = s.email_id)
+                ON CONFLICT DO NOTHING
+                RETURNING line_no
+            )
+            SELECT (SELECT count(*) FROM rejected) AS rejected_count,
+                   array_agg(id ORDER BY id) AS ids,
+                   array_agg(cust_first_name ORDER BY id) AS cust_first_names,
+                   array_agg(cust_last_name ORDER BY id) AS cust_last_names,
+                   array_agg(email_id ORDER BY id) AS email_ids,
+                   array_agg(phone_no ORDER BY id) AS phone_nos
+            FROM inserted
+            """;
+
+    private static final String INSERT_REJECTION_SQL = "INSERT INTO party_import_rejection (job_id, line_no, reason) "
+            + "VALUES (:jobId, :line, :reason) ON CONFLICT DO NOTHING";
+
+    private static final String FIND_REJECTIONS_SQL = "SELECT line_no, reason FROM party_import_rejection "
+            + "WHERE job_id = :jobId AND line_no > :afterLine ORDER BY line_no LIMIT :limit";
+
+    private static final String ANALYZE_SQL = "ANALYZE party_import_staging";
+
+    private static final String COUNT_STAGED_SQL = "SELECT count(*) FROM party_import_staging WHERE job_id = :jobId";
+
+    private static final String DELETE_STAGED_SQL = "DELETE FROM party_import_staging WHERE job_id = :jobId";
+
+    private static final String DELETE_REJECTIONS_SQL = "DELETE FROM party_import_rejection WHERE job_id = :jobId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Load validated records into the staging table with {@code COPY}.
+     *
+     * @param jobId   the import job id
+     * @param records the records, each with a valid request
+     * @return the number of rows copied
+     */
+    public long copy(String jobId, List<PartyRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        StringBuilder csv = new StringBuilder(records.size() * 128);
+        for (PartyRecord partyRecord : records) {
+            PartyRequest request = partyRecord.getRequest();
+            csv.append(jobId).append(',').append(partyRecord.getLine());
+            appendField(csv, request.getCustFirstName());
+            appendField(csv, request.getCustLastName());
+            appendField(csv, request.getEmailId());
+            appendField(csv, request.getPhoneNo());
+            appendField(csv, StringUtils.normalizeEmail(request.getEmailId()));
+            appendField(csv, StringUtils.normalizePhoneNumber(request.getPhoneNo()));
+            csv.append('\n');
+        }
+        byte[] data = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Long copied = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                copyIn.writeToCopy(data, 0, data.length);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    private static void appendField(StringBuilder csv, String value) {
+        csv.append(",\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+
+    /**
+     * Refresh planner statistics of the staging table. Without them a freshly loaded table is
+     * estimated at a handful of rows and the dedupe and merge statements get nested-loop plans.
+     */
+    public void analyze() {
+        jdbcTemplate.getJdbcTemplate().execute(ANALYZE_SQL);
+    }
+
+    /**
+     * Mark every staged row whose normalized email or phone already appeared on an earlier line,
+     * recording each as a rejection.
+     *
+     * @param jobId  the import job id
+     * @param reason the rejection reason
+     * @return the number of duplicate rows
+     */
+    public long markDuplicates(String jobId, String reason) {
+        return jdbcTemplate.update(MARK_DUPLICATES_SQL, new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("reason", reason));
+    }
+
+    /**
+     * Merge the non-duplicate staged rows within a line range into {@code party}. Rows whose email
+     * or phone already exists in {@code party} are skipped and recorded as rejections.
+     *
+     * Only the email constraint is an {@code ON CONFLICT} arbiter; existing phone numbers are
+     * filtered out beforehand, so any other unique violation fails the statement. That is a phone
+     * number committed by a concurrent writer since the statement started, which the caller can
+     * retry, or an id clash with the pooled id blocks, which must never be taken for a duplicate.
+     *
+     * @param jobId    the import job id
+     * @param fromLine exclusive lower bound on the line number
+     * @param toLine   inclusive upper bound on the line number
+     * @param reason   the rejection reason for rows that already exist
+     * @return the keys and names of the inserted rows and the number of rejected rows
+     * @throws org.springframework.dao.DuplicateKeyException on a unique violation other than the email
+     */
+    public MergeResult merge(String jobId, long fromLine, long toLine, String reason) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("fromLine", fromLine)
+                .addValue("toLine", toLine)
+                .addValue("blockSize", ID_BLOCK_SIZE)
+                .addValue("reason", reason)
+                .addValue("now", OffsetDateTime.now(ZoneOffset.UTC));
+        return jdbcTemplate.queryForObject(MERGE_SQL, params, (rs, rowNum) -> {
+            List<PartyKeys> inserted = new ArrayList<>();
+            List<PartyNames> insertedNames = new ArrayList<>();
+            Array ids = rs.getArray("ids");
+            if (ids != null) {
+                Long[] id = (Long[]) ids.getArray();
+                String[] firstName = (String[]) rs.getArray("cust_first_names").getArray();
+                String[] lastName = (String[]) rs.getArray("cust_last_names").getArray();
+                String[] emailId = (String[]) rs.getArray("email_ids").getArray();
+                String[] phoneNo = (String[]) rs.getArray("phone_nos").getArray();
+                for (int i = 0; i < id.length; i++) {
+                    inserted.add(new PartyKeys(id[i], emailId[i], phoneNo[i]));
+                    insertedNames.add(new PartyNames(id[i], firstName[i], lastName[i]));
+                }
+            }
+            return new MergeResult(inserted, insertedNames, rs.getLong("rejected_count"));
+        });
+    }
+
+    /**
+     * Record rows rejected before staging.
+     *
+     * @param jobId      the import job id
+     * @param rejections the rejected rows
+     */
+    public void insertRejections(String jobId, List<PartyImportRejection> rejections) {
+        if (rejections.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[rejections.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("jobId", jobId)
+                    .addValue("line", rejections.get(i).getLine())
+                    .addValue("reason", rejections.get(i).getReason());
+        }
+        jdbcTemplate.batchUpdate(INSERT_REJECTION_SQL, batch);
+    }
+
+    /**
+     * Fetch the rejected rows of a job after a given line, in line order.
+     *
+     * @param jobId     the import job id
+     * @param afterLine only rows after this line are returned
+     * @param limit     the maximum number of rows
+     * @return the rejected rows
+     */
+    public List<PartyImportRejection> findRejections(String jobId, long afterLine, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("afterLine", afterLine)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_REJECTIONS_SQL, params, (rs, rowNum) -> PartyImportRejection.builder()
+                .line(rs.getLong("line_no"))
+                .reason(rs.getString("reason"))
+                .build());
+    }
+
+    /**
+     * Count the staged rows of a job.
+     *
+     * @param jobId the import job id
+     * @return the number of staged rows
+     */
+    public long countStaged(String jobId) {
+        Long count = jdbcTemplate.queryForObject(COUNT_STAGED_SQL, new MapSqlParameterSource("jobId", jobId), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Remove the staged rows of a job.
+     *
+     * @param jobId the import job id
+     */
+    public void deleteStaged(String jobId) {
+        jdbcTemplate.update(DELETE_STAGED_SQL, new MapSqlParameterSource("jobId", jobId));
+    }
+
+    /**
+     * Remove the rejected rows of a job.
+     *
+     * @param jobId the import job id
+     */
+    public void deleteRejections(String jobId) {
+        jdbcTemplate.update(DELETE_REJECTIONS_SQL, new MapSqlParameterSource("jobId", jobId));
+    }
+
+    /**
+     * Outcome of merging one range of staged rows.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class MergeResult {
+        private final List<PartyKeys> insertedKeys;
+        private final List<PartyNames> insertedNames;
+        private final long rejected;
+
+        public long getInserted() {
+            return insertedKeys.size();
+        }
+    }
+}
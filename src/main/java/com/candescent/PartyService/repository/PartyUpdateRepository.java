@@ -0,0 +1,108 @@
+package com.candescent.PartyService.repository;
+
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC repository for updating a party in a single round trip.
+ *
+ * The update is applied with one {@code UPDATE ... RETURNING} statement. Null request fields keep
+ * their current value, and uniqueness of email and phone is enforced by the table's unique
+ * constraints rather than pre-checked. The statement increments the optimistic lock version
+ * like a Hibernate update would. Runs on the connection of the surrounding JPA transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartyUpdateRepository {
+
+    // The locked self-join exposes the names, email and phone number the update replaced
+    private static final String UPDATE_PARTY_SQL = """
+            UPDATE party p SET
+                cust_first_name = COALESCE(:custFirstName, p.cust_first_name),
+                cust_last_name = COALESCE(:custLastName, p.cust_last_name),
+                email_id = COALESCE(:emailId, p.email_id),
+                phone_no = COALESCE(:phoneNo, p.phone_no),
+                modified_ts = :modifiedTs,
+                version = p.version + 1
+            FROM (SELECT id, cust_first_name, cust_last_name, email_id, phone_no FROM party WHERE id = :id FOR UPDATE) previous
+            WHERE p.id = previous.id
+            """;
+
+    private static final String RETURNING_SQL = """
+            RETURNING p.id, p.cust_first_name, p.cust_last_name, p.email_id, p.phone_no, p.version,
+                      previous.cust_first_name AS previous_cust_first_name,
+                      previous.cust_last_name AS previous_cust_last_name,
+                      previous.email_id AS previous_email_id, previous.phone_no AS previous_phone_no
+            """;
+
+    // If-Match: only update while the row still has one of the versions the client saw
+    private static final String VERSION_CONDITION_SQL = "AND p.version IN (:expectedVersions)\n";
+
+    private static final RowMapper<UpdatedParty> UPDATED_PARTY_MAPPER = (rs, rowNum) -> new UpdatedParty(
+            PartyResponse.builder()
+                    .id(String.valueOf(rs.getLong("id")))
+                    .custFirstName(rs.getString("cust_first_name"))
+                    .custLastName(rs.getString("cust_last_name"))
+                    .emailId(rs.getString("email_id"))
+                    .phoneNo(rs.getString("phone_no"))
+                    .version(rs.getLong("version"))
+                    .build(),
+            rs.getString("previous_cust_first_name"),
+            rs.getString("previous_cust_last_name"),
+            rs.getString("previous_email_id"),
+            rs.getString("previous_phone_no"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Apply the non-null fields of a request to a party and return the updated row.
+     *
+     * @param id               the party ID
+     * @param request          the party request with updated data
+     * @param expectedVersions if not null, update only if the party's version is one of these (not empty)
+     * @return the updated party with its previous names, email and phone, or empty if no party has this id
+     * or its version did not match
+     * @throws org.springframework.dao.DataIntegrityViolationException if the email or phone is taken
+     */
+    public Optional<UpdatedParty> update(Long id, PartyRequest request, Collection<Long> expectedVersions) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("custFirstName", request.getCustFirstName())
+                .addValue("custLastName", request.getCustLastName())
+                .addValue("emailId", request.getEmailId())
+                .addValue("phoneNo", request.getPhoneNo())
+                .addValue("modifiedTs", OffsetDateTime.now(ZoneOffset.UTC));
+        String sql = UPDATE_PARTY_SQL;
+        if (expectedVersions != null) {
+            params.addValue("expectedVersions", expectedVersions);
+            sql += VERSION_CONDITION_SQL;
+        }
+        List<UpdatedParty> rows = jdbcTemplate.query(sql + RETURNING_SQL, params, UPDATED_PARTY_MAPPER);
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    /**
+     * An updated party together with the names and unique keys it had before the update.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class UpdatedParty {
+        private final PartyResponse party;
+        private final String previousCustFirstName;
+        private final String previousCustLastName;
+        private final String previousEmailId;
+        private final String previousPhoneNo;
+    }
+}
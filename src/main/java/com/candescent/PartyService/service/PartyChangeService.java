@@ -0,0 +1,145 @@
+package com.candescent.PartyService.service;
+
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+import com.candescent.PartyService.dto.response.PartyChangePage;
+import com.candescent.PartyService.repository.PartyOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service behind the party change feed.
+ *
+ * Consumers page through relayed outbox changes by position. A poll that finds nothing new can
+ * wait for changes: it is parked without holding a request thread or a connection, and completed
+ * when the outbox relay reports that the feed head moved past it, or with an empty page when its
+ * wait runs out.
+ */
+@Slf4j
+@Service
+public class PartyChangeService {
+
+    private final PartyOutboxRepository partyOutboxRepository;
+    private final Duration maxWait;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private volatile long knownHead;
+
+    public PartyChangeService(PartyOutboxRepository partyOutboxRepository,
+                              @Value("${app.party.changes.max-wait:25s}") Duration maxWait,
+                              MeterRegistry meterRegistry) {
+        this.partyOutboxRepository = partyOutboxRepository;
+        this.maxWait = maxWait;
+        Gauge.builder("party.changes.waiting", waiters, Set::size)
+                .description("Change feed polls waiting for new changes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the longest a poll may wait for changes
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Fetch the changes after a position.
+     *
+     * @param since only changes after this position are returned
+     * @param limit the maximum number of changes
+     * @return the page of changes
+     */
+    public PartyChangePage getChanges(long since, int limit) {
+        // One extra row tells whether more changes follow
+        List<PartyChangeEvent> changes = partyOutboxRepository.findAfter(since, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getPosition();
+        return PartyChangePage.builder()
+                .changes(changes)
+                .hasMore(hasMore)
+                .nextSince(nextSince)
+                .build();
+    }
+
+    /**
+     * Fetch the changes after a position, waiting up to {@code wait} for one if there is none yet.
+     *
+     * @param since only changes after this position are returned
+     * @param limit the maximum number of changes
+     * @param wait  how long to wait for a change; capped at {@code app.party.changes.max-wait}
+     * @return the page of changes, empty if none arrived in time
+     */
+    public CompletableFuture<PartyChangePage> pollChanges(long since, int limit, Duration wait) {
+        PartyChangePage page = getChanges(since, limit);
+        if (!page.getChanges().isEmpty() || wait.isZero()) {
+            return CompletableFuture.completedFuture(page);
+        }
+        Waiter waiter = new Waiter(since, limit);
+        waiters.add(waiter);
+        waiter.result.whenComplete((result, error) -> waiters.remove(waiter));
+        waiter.result.completeOnTimeout(page, Math.min(wait.toMillis(), maxWait.toMillis()), TimeUnit.MILLISECONDS);
+        // The head may have moved between the query and registering
+        if (knownHead > since) {
+            waiter.result.complete(getChanges(since, limit));
+        }
+        return waiter.result;
+    }
+
+    /**
+     * @return true if any poll is waiting for changes
+     */
+    public boolean hasWaiters() {
+        return !waiters.isEmpty();
+    }
+
+    /**
+     * Complete the waiting polls that the feed head has moved past.
+     * Called by the outbox relay after each run.
+     *
+     * @param head the position of the latest relayed change
+     */
+    public void onRelayed(long head) {
+        if (head <= knownHead) {
+            return;
+        }
+        knownHead = head;
+        // Polls resuming from the same position with the same limit share one query
+        Map<String, PartyChangePage> pages = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.since < head && !waiter.result.isDone()) {
+                try {
+                    waiter.result.complete(pages.computeIfAbsent(waiter.since + "/" + waiter.limit,
+                            key -> getChanges(waiter.since, waiter.limit)));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to complete change feed poll after position {}: {}", waiter.since, e.getMessage());
+                    waiter.result.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final long since;
+        private final int limit;
+        private final CompletableFuture<PartyChangePage> result = new CompletableFuture<>();
+
+        private Waiter(long since, int limit) {
+            this.since = since;
+            this.limit = limit;
+        }
+    }
+}
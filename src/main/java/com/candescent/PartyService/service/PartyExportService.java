@@ -0,0 +1,69 @@
+package com.candescent.PartyService.service;
+
+import com.candescent.PartyService.entities.PartyEntity;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.candescent.PartyService.export.PartyExportWriter;
+import com.candescent.PartyService.repository.PartyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service that streams the party table to an output stream.
+ *
+ * Rows are read through a server-side cursor in id order and each entity is detached as soon as
+ * it has been written, so memory use stays constant however large the table is. A client whose
+ * download is interrupted resumes by passing the last id it received as {@code afterId}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartyExportService {
+
+    /**
+     * Rows written between flushes; matches the cursor fetch size on
+     * {@link PartyRepository#streamAllAfter(long)}.
+     */
+    private static final int FLUSH_INTERVAL_ROWS = 1000;
+
+    private final PartyRepository partyRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Export every party with an id greater than {@code afterId}.
+     *
+     * @param afterId      export parties after this id
+     * @param format       the output format
+     * @param outputStream the target stream; left open
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportParties(long afterId, PartyExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Exporting parties after id {} as {}", afterId, format);
+        long start = System.nanoTime();
+        long rows = 0;
+        try (Stream<PartyEntity> parties = partyRepository.streamAllAfter(afterId);
+             PartyExportWriter writer = PartyExportWriter.create(format, objectMapper.getFactory(), outputStream)) {
+            Iterator<PartyEntity> iterator = parties.iterator();
+            while (iterator.hasNext()) {
+                PartyEntity party = iterator.next();
+                writer.write(party);
+                entityManager.detach(party);
+                if (++rows % FLUSH_INTERVAL_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        log.info("Exported {} parties in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+}
@@ -0,0 +1,461 @@
+package com.candescent.PartyService.service;
+
+import com.candescent.PartyService.common.exception.ResourceNotFoundException;
+import com.candescent.PartyService.common.exception.ServiceUnavailableException;
+import com.candescent.PartyService.common.util.StringUtils;
+import com.candescent.PartyService.dataloader.PartyImportStatus;
+import com.candescent.PartyService.dataloader.PartyRecordReader;
+import com.candescent.PartyService.dataloader.PartyRecordReader.PartyRecord;
+import com.candescent.PartyService.dto.response.PartyImportRejection;
+import com.candescent.PartyService.entities.PartyImportJobEntity;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.candescent.PartyService.index.PartyIndex;
+import com.candescent.PartyService.index.PartyTypeahead;
+import com.candescent.PartyService.repository.PartyImportJobRepository;
+import com.candescent.PartyService.repository.PartyStagingRepository;
+import com.candescent.PartyService.repository.PartyStagingRepository.MergeResult;
+import com.candescent.PartyService.validation.PartyRequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service that runs bulk party imports as background jobs.
+ *
+ * An upload is spooled to a local file and a job row is created, and the job then runs on a fixed
+ * pool of import threads. Each thread uses at most one database connection at a time, and the pool
+ * is capped at the Hikari pool size minus {@code app.party.import.reserved-connections}, so imports
+ * cannot starve interactive traffic of connections.
+ *
+ * A job stages the file into {@code party_import_staging} with {@code COPY}, rejects rows repeating
+ * an earlier email or phone number, and merges the rest into {@code party} with
+ * {@code INSERT ... ON CONFLICT DO NOTHING}. Every chunk is committed together with the job's
+ * checkpoint, so a job interrupted by a restart resumes after its last committed chunk.
+ */
+@Slf4j
+@Service
+public class PartyImportService {
+
+    private static final String DUPLICATE_IN_FILE = "Duplicate emailId or phoneNo in file";
+    private static final String ALREADY_EXISTS = "Party with same emailId or phoneNo already exists";
+    private static final int ERROR_DESCRIPTION_MAX_LENGTH = 1000;
+    private static final int MAX_MERGE_ATTEMPTS = 3;
+    private static final EnumSet<PartyImportStatus> UNFINISHED = EnumSet.of(PartyImportStatus.QUEUED,
+            PartyImportStatus.STAGING, PartyImportStatus.DEDUPLICATING, PartyImportStatus.MERGING);
+
+    private final PartyImportJobRepository partyImportJobRepository;
+    private final PartyStagingRepository partyStagingRepository;
+    private final PartyIndex partyIndex;
+    private final PartyTypeahead partyTypeahead;
+    private final PartyRequestValidator partyRequestValidator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Path spoolDir;
+    private final String node;
+    private final Duration retention;
+    private final Duration staleAfter;
+    private final int maxAdmitted;
+    private final ExecutorService executor;
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final Counter importedRows;
+    private final Counter rejectedRows;
+    private volatile boolean stopping;
+
+    public PartyImportService(PartyImportJobRepository partyImportJobRepository,
+                              PartyStagingRepository partyStagingRepository,
+                              PartyIndex partyIndex,
+                              PartyTypeahead partyTypeahead,
+                              PartyRequestValidator partyRequestValidator,
+                              ObjectMapper objectMapper,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.party.import.chunk-size:10000}") int chunkSize,
+                              @Value("${app.party.import.concurrency:2}") int concurrency,
+                              @Value("${app.party.import.max-queued:8}") int maxQueued,
+                              @Value("${app.party.import.reserved-connections:10}") int reservedConnections,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                              @Value("${app.party.import.spool-dir:${java.io.tmpdir}/party-import}") Path spoolDir,
+                              @Value("${app.party.import.node-id:${HOSTNAME:localhost}}") String node,
+                              @Value("${app.party.import.retention:7d}") Duration retention,
+                              @Value("${app.party.import.stale-after:10m}") Duration staleAfter) {
+        this.partyImportJobRepository = partyImportJobRepository;
+        this.partyStagingRepository = partyStagingRepository;
+        this.partyIndex = partyIndex;
+        this.partyTypeahead = partyTypeahead;
+        this.partyRequestValidator = partyRequestValidator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.spoolDir = spoolDir;
+        this.node = node;
+        this.retention = retention;
+        this.staleAfter = staleAfter;
+        int threads = Math.min(concurrency, Math.max(1, poolSize - reservedConnections));
+        if (threads < concurrency) {
+            log.warn("Party import concurrency capped at {} to keep {} of {} connections for interactive traffic",
+                    threads, reservedConnections, poolSize);
+        }
+        this.maxAdmitted = threads + maxQueued;
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("party-import-"));
+        this.importedRows = Counter.builder("party.import.rows")
+                .description("Rows processed by party imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.rejectedRows = Counter.builder("party.import.rows")
+                .description("Rows processed by party imports")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        Gauge.builder("party.import.jobs.admitted", admitted, AtomicInteger::get)
+                .description("Import jobs running or queued on this node")
+                .register(meterRegistry);
+        log.info("Party import initialized: threads={}, maxQueued={}, chunkSize={}, spoolDir={}",
+                threads, maxQueued, chunkSize, spoolDir);
+    }
+
+    /**
+     * Spool an upload and queue it for import.
+     *
+     * @param format      the format of the upload
+     * @param inputStream the uploaded file
+     * @return the queued job
+     * @throws ServiceUnavailableException if too many imports are already running or queued
+     */
+    public PartyImportJobEntity submit(PartyExportFormat format, InputStream inputStream) throws IOException {
+        if (admitted.incrementAndGet() > maxAdmitted) {
+            admitted.decrementAndGet();
+            throw new ServiceUnavailableException("Too many imports in progress, retry later");
+        }
+        String jobId = StringUtils.generateUUID();
+        Path spoolFile = spoolDir.resolve(jobId + "." + format.getFileExtension());
+        try {
+            Files.createDirectories(spoolDir);
+            Files.copy(inputStream, spoolFile);
+            PartyImportJobEntity job = partyImportJobRepository.save(PartyImportJobEntity.builder()
+                    .jobId(jobId)
+                    .node(node)
+                    .format(format)
+                    .status(PartyImportStatus.QUEUED)
+                    .spoolPath(spoolFile.toString())
+                    .startedTs(Instant.now())
+                    .heartbeatTs(Instant.now())
+                    .build());
+            executor.execute(() -> run(jobId));
+            log.info("Party import job {} queued ({}, {} bytes)", jobId, format, Files.size(spoolFile));
+            return job;
+        } catch (IOException | RuntimeException e) {
+            admitted.decrementAndGet();
+            Files.deleteIfExists(spoolFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Resume the jobs this node accepted but had not finished when it stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (PartyImportJobEntity job : partyImportJobRepository.findByNodeAndStatusInOrderByStartedTs(node, UNFINISHED)) {
+            log.info("Resuming party import job {} in {} after line {}", job.getJobId(), job.getStatus(),
+                    job.getStatus() == PartyImportStatus.MERGING ? job.getLastMergedLine() : job.getLastStagedLine());
+            admitted.incrementAndGet();
+            executor.execute(() -> run(job.getJobId()));
+        }
+    }
+
+    /**
+     * Keep this node's unfinished jobs marked as alive, and take over the unfinished jobs of nodes
+     * that stopped sending heartbeats, such as instances a redeploy replaced under a new node id.
+     */
+    @Scheduled(fixedDelayString = "${app.party.import.heartbeat-interval:1m}")
+    public void heartbeat() {
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> partyImportJobRepository.touchByNode(node, UNFINISHED, now));
+        Instant cutoff = now.minus(staleAfter);
+        for (PartyImportJobEntity job : partyImportJobRepository.findStale(node, UNFINISHED, cutoff)) {
+            if (admitted.incrementAndGet() > maxAdmitted) {
+                // Left for a later heartbeat, once this node has room
+                admitted.decrementAndGet();
+                return;
+            }
+            Integer claimed = transactionTemplate.execute(status ->
+                    partyImportJobRepository.claim(job.getJobId(), job.getNode(), node, cutoff, Instant.now()));
+            if (claimed == null || claimed == 0) {
+                admitted.decrementAndGet();
+                continue;
+            }
+            log.warn("Taking over party import job {} in {} from node {}, silent since {}", job.getJobId(),
+                    job.getStatus(), job.getNode(), job.getHeartbeatTs() != null ? job.getHeartbeatTs() : job.getStartedTs());
+            executor.execute(() -> run(job.getJobId()));
+        }
+    }
+
+    /**
+     * Get an import job.
+     *
+     * @param jobId the job id
+     * @return the job
+     */
+    public PartyImportJobEntity getJob(String jobId) {
+        return partyImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + jobId));
+    }
+
+    /**
+     * List the most recent import jobs.
+     *
+     * @param limit the maximum number of jobs
+     * @return the jobs, most recent first
+     */
+    public List<PartyImportJobEntity> listJobs(int limit) {
+        return partyImportJobRepository.findAllByOrderByStartedTsDesc(Limit.of(limit));
+    }
+
+    /**
+     * Get the rejected rows of an import job, in line order.
+     *
+     * @param jobId     the job id
+     * @param afterLine only rows after this line are returned
+     * @param limit     the maximum number of rows
+     * @return the rejected rows
+     */
+    public List<PartyImportRejection> getRejections(String jobId, long afterLine, int limit) {
+        getJob(jobId);
+        return partyStagingRepository.findRejections(jobId, afterLine, limit);
+    }
+
+    /**
+     * Remove finished jobs, and their rejected rows, once they are older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.party.import.purge-interval:1h}")
+    public void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        for (PartyImportJobEntity job : partyImportJobRepository.findByFinishedTsBefore(cutoff)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                partyStagingRepository.deleteRejections(job.getJobId());
+                partyImportJobRepository.delete(job);
+            });
+            log.info("Purged party import job {}", job.getJobId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted jobs resume from their last checkpoint on the next start, or on another node
+        stopping = true;
+        executor.shutdownNow();
+    }
+
+    private void run(String jobId) {
+        try {
+            PartyImportJobEntity job = getJob(jobId);
+            verifyStaged(job);
+            if (job.getStatus() == PartyImportStatus.QUEUED || job.getStatus() == PartyImportStatus.STAGING) {
+                job = stage(job);
+            }
+            if (job.getStatus() == PartyImportStatus.DEDUPLICATING) {
+                job = deduplicate(job);
+            }
+            if (job.getStatus() == PartyImportStatus.MERGING) {
+                job = merge(job);
+            }
+            complete(job);
+        } catch (Exception e) {
+            if (stopping) {
+                // Whatever the interrupt broke, the job keeps its status, staged rows and spool file
+                log.info("Party import job {} interrupted by shutdown, resumes after its last checkpoint", jobId);
+            } else {
+                log.error("Party import job {} failed", jobId, e);
+                fail(jobId, e.getMessage());
+            }
+        } finally {
+            admitted.decrementAndGet();
+        }
+    }
+
+    /**
+     * Check that the rows a resumed job checkpointed as staged are still in the staging table. Rows
+     * already merged or rejected cannot be told apart from lost ones, so a job that lost staged
+     * rows is failed rather than completed with those rows silently missing. A job still reading its
+     * file also needs the spool file, which a job taken over from another node may not have.
+     */
+    private void verifyStaged(PartyImportJobEntity job) {
+        if ((job.getStatus() == PartyImportStatus.QUEUED || job.getStatus() == PartyImportStatus.STAGING)
+                && !Files.isReadable(Path.of(job.getSpoolPath()))) {
+            throw new IllegalStateException("Spool file " + job.getSpoolPath() + " is not available on node "
+                    + node + "; upload the file again");
+        }
+        if (job.getStatus() == PartyImportStatus.QUEUED) {
+            return;
+        }
+        long staged = partyStagingRepository.countStaged(job.getJobId());
+        if (staged != job.getRowsStaged()) {
+            throw new IllegalStateException("Staging table holds " + staged + " rows of the "
+                    + job.getRowsStaged() + " staged before the job was interrupted; upload the file again");
+        }
+    }
+
+    /**
+     * Parse and validate the spooled file, copying valid rows into the staging table one chunk at a
+     * time. Records up to the checkpointed line were staged by an earlier run and are skipped.
+     */
+    private PartyImportJobEntity stage(PartyImportJobEntity job) throws IOException {
+        job.setStatus(PartyImportStatus.STAGING);
+        job = partyImportJobRepository.save(job);
+        long resumeAfter = job.getLastStagedLine();
+        List<PartyRecord> valid = new ArrayList<>(chunkSize);
+        List<PartyImportRejection> rejected = new ArrayList<>();
+        long read = 0;
+        long lastLine = resumeAfter;
+        try (InputStream inputStream = Files.newInputStream(Path.of(job.getSpoolPath()))) {
+            PartyRecordReader reader = PartyRecordReader.create(job.getFormat(), objectMapper, inputStream);
+            PartyRecord partyRecord;
+            while ((partyRecord = reader.next()) != null) {
+                if (partyRecord.getLine() <= resumeAfter) {
+                    continue;
+                }
+                read++;
+                lastLine = partyRecord.getLine();
+                String error = partyRecord.getError();
+                if (error == null) {
+                    List<String> errors = partyRequestValidator.collectErrors(partyRecord.getRequest());
+                    error = errors.isEmpty() ? null : String.join("; ", errors);
+                }
+                if (error == null) {
+                    valid.add(partyRecord);
+                } else {
+                    rejected.add(PartyImportRejection.builder().line(lastLine).reason(error).build());
+                }
+                if (valid.size() + rejected.size() == chunkSize) {
+                    job = commitStagedChunk(job, valid, rejected, read, lastLine, PartyImportStatus.STAGING);
+                    read = 0;
+                }
+            }
+        }
+        return commitStagedChunk(job, valid, rejected, read, lastLine, PartyImportStatus.DEDUPLICATING);
+    }
+
+    private PartyImportJobEntity commitStagedChunk(PartyImportJobEntity job, List<PartyRecord> valid,
+                                                   List<PartyImportRejection> rejected, long read, long lastLine,
+                                                   PartyImportStatus nextStatus) {
+        PartyImportJobEntity saved = transactionTemplate.execute(status -> {
+            long staged = partyStagingRepository.copy(job.getJobId(), valid);
+            partyStagingRepository.insertRejections(job.getJobId(), rejected);
+            job.setRowsRead(job.getRowsRead() + read);
+            job.setRowsStaged(job.getRowsStaged() + staged);
+            job.setRowsRejected(job.getRowsRejected() + rejected.size());
+            job.setLastStagedLine(lastLine);
+            job.setStatus(nextStatus);
+            return partyImportJobRepository.save(job);
+        });
+        rejectedRows.increment(rejected.size());
+        valid.clear();
+        rejected.clear();
+        return saved;
+    }
+
+    private PartyImportJobEntity deduplicate(PartyImportJobEntity job) {
+        partyStagingRepository.analyze();
+        return transactionTemplate.execute(status -> {
+            long duplicates = partyStagingRepository.markDuplicates(job.getJobId(), DUPLICATE_IN_FILE);
+            rejectedRows.increment(duplicates);
+            job.setRowsRejected(job.getRowsRejected() + duplicates);
+            job.setStatus(PartyImportStatus.MERGING);
+            return partyImportJobRepository.save(job);
+        });
+    }
+
+    /**
+     * Merge staged rows into {@code party}, one range of {@code chunkSize} lines per transaction,
+     * starting after the checkpointed line.
+     */
+    private PartyImportJobEntity merge(PartyImportJobEntity job) {
+        int attempt = 0;
+        while (job.getLastMergedLine() < job.getLastStagedLine()) {
+            PartyImportJobEntity current = job;
+            long fromLine = current.getLastMergedLine();
+            long toLine = Math.min(fromLine + chunkSize, current.getLastStagedLine());
+            try {
+                job = mergeChunk(current, fromLine, toLine);
+                attempt = 0;
+            } catch (DuplicateKeyException e) {
+                // A phone number committed concurrently; the retry sees it and rejects the row.
+                // Any other clash, such as an id, fails the job.
+                if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("(phone_no)")
+                        || ++attempt > MAX_MERGE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying party import job {} lines {}-{} after a concurrent phone number insert",
+                        current.getJobId(), fromLine + 1, toLine);
+            }
+        }
+        return job;
+    }
+
+    private PartyImportJobEntity mergeChunk(PartyImportJobEntity current, long fromLine, long toLine) {
+        return transactionTemplate.execute(status -> {
+            MergeResult result = partyStagingRepository.merge(current.getJobId(), fromLine, toLine, ALREADY_EXISTS);
+            partyIndex.indexAllAfterCommit(result.getInsertedKeys());
+            partyTypeahead.indexAllAfterCommit(result.getInsertedNames());
+            importedRows.increment(result.getInserted());
+            rejectedRows.increment(result.getRejected());
+            current.setRowsImported(current.getRowsImported() + result.getInserted());
+            current.setRowsRejected(current.getRowsRejected() + result.getRejected());
+            current.setLastMergedLine(toLine);
+            return partyImportJobRepository.save(current);
+        });
+    }
+
+    private void complete(PartyImportJobEntity job) throws IOException {
+        transactionTemplate.executeWithoutResult(status -> {
+            partyStagingRepository.deleteStaged(job.getJobId());
+            job.setStatus(PartyImportStatus.COMPLETED);
+            job.setFinishedTs(Instant.now());
+            partyImportJobRepository.save(job);
+        });
+        Files.deleteIfExists(Path.of(job.getSpoolPath()));
+        log.info("Party import job {} completed: {} read, {} imported, {} rejected", job.getJobId(),
+                job.getRowsRead(), job.getRowsImported(), job.getRowsRejected());
+    }
+
+    private void fail(String jobId, String errorDescription) {
+        try {
+            PartyImportJobEntity job = transactionTemplate.execute(status -> {
+                PartyImportJobEntity failed = getJob(jobId);
+                partyStagingRepository.deleteStaged(jobId);
+                failed.setStatus(PartyImportStatus.FAILED);
+                failed.setErrorDescription(StringUtils.truncate(errorDescription, ERROR_DESCRIPTION_MAX_LENGTH));
+                failed.setFinishedTs(Instant.now());
+                return partyImportJobRepository.save(failed);
+            });
+            Files.deleteIfExists(Path.of(job.getSpoolPath()));
+        } catch (Exception e) {
+            log.error("Failed to record failure of party import job {}", jobId, e);
+        }
+    }
+}
@@ -1,16 +1,56 @@
 package com.candescent.PartyService.service;
 
+import com.candescent.PartyService.cache.PartyCache;
+import com.candescent.PartyService.cache.PartyCacheCoherence;
 import com.candescent.PartyService.common.exception.ConflictException;
+import com.candescent.PartyService.common.exception.PreconditionFailedException;
 import com.candescent.PartyService.common.exception.ResourceNotFoundException;
+import com.candescent.PartyService.common.exception.ServiceUnavailableException;
+import com.candescent.PartyService.common.util.CollectionUtils;
+import com.candescent.PartyService.common.util.StringUtils;
 import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyBatchResult;
+import com.candescent.PartyService.dto.response.PartyPageResponse;
 import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.dto.response.PartySuggestion;
 import com.candescent.PartyService.entities.PartyEntity;
+import com.candescent.PartyService.index.PartyIndex;
+import com.candescent.PartyService.index.PartyKeys;
+import com.candescent.PartyService.index.PartyNames;
+import com.candescent.PartyService.index.PartyTypeahead;
+import com.candescent.PartyService.index.TypeaheadIndex;
 import com.candescent.PartyService.mapper.PartyMapper;
+import com.candescent.PartyService.outbox.PartyChangeType;
+import com.candescent.PartyService.repository.PartyOutboxRepository;
 import com.candescent.PartyService.repository.PartyRepository;
+import com.candescent.PartyService.repository.PartySearchRepository;
+import com.candescent.PartyService.repository.PartyUpdateRepository;
+import com.candescent.PartyService.repository.PartyUpdateRepository.UpdatedParty;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.retry.RetryException;
+import org.springframework.core.retry.RetryTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Service class for Party operations.
@@ -20,11 +60,57 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PartyService {
 
+    /**
+     * Preallocated, stackless not-found outcome for the read hot path; the request URI logged by
+     * the exception handler already identifies the customer.
+     */
+    private static final ResourceNotFoundException PARTY_NOT_FOUND =
+            ResourceNotFoundException.stackless("Party not found");
+
+    private static final String WRITE_CONFLICTS_METRIC = "party.write.conflicts";
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final PartyRepository partyRepository;
+    private final PartyUpdateRepository partyUpdateRepository;
+    private final PartyOutboxRepository partyOutboxRepository;
+    private final PartySearchRepository partySearchRepository;
     private final PartyMapper partyMapper;
+    private final PartyCache partyCache;
+    private final PartyCacheCoherence partyCacheCoherence;
+    private final PartyIndex partyIndex;
+    private final PartyTypeahead partyTypeahead;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryTemplate partyUpdateRetryTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.party.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${app.party.lookup.chunk-size:1000}")
+    private int lookupChunkSize;
+
+    @Value("${app.party.update.single-statement:true}")
+    private boolean singleStatementUpdate;
+
+    @Value("${app.party.index.miss-fallback:true}")
+    private boolean indexMissFallback;
+
+    @Value("${app.party.search.min-similarity:0.5}")
+    private double searchMinSimilarity;
+
+    @Value("${app.party.search.timeout:2s}")
+    private Duration searchTimeout;
+
+    @Value("${app.party.typeahead.ids-per-name:5}")
+    private int typeaheadIdsPerName;
 
     /**
      * Create a new party.
+     * When the party index or Bloom filter is ready, an email or phone number it may know is
+     * confirmed with one query and rejected before inserting; keys it rules out skip the query and
+     * are left to the unique constraints. The insert is flushed here, so a violation of those
+     * constraints is reported as the same conflict as a duplicate found by the query.
      *
      * @param request the party request
      * @return the created party response
@@ -32,54 +118,508 @@ public class PartyService {
     @Transactional
     public PartyResponse createParty(PartyRequest request) {
         log.info("Creating party");
+        if (partyIndex.canRuleOutKeys()) {
+            if (emailTaken(request.getEmailId())) {
+                throw ConflictException.stackless("Party with same emailId already exists");
+            }
+            if (phoneTaken(request.getPhoneNo())) {
+                throw ConflictException.stackless("Party with same phoneNo already exists");
+            }
+        }
         PartyEntity entity = partyMapper.toEntity(request);
-        PartyEntity savedEntity = partyRepository.save(entity);
+        PartyEntity savedEntity;
+        try {
+            savedEntity = partyRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            recordConflict("createParty", "duplicate_key");
+            throw ConflictException.stackless(conflictMessage(e));
+        }
         log.info("Party created successfully with id: {}", savedEntity.getId());
-        return partyMapper.toResponse(savedEntity);
+        PartyResponse response = partyMapper.toResponse(savedEntity);
+        partyOutboxRepository.append(PartyChangeType.CREATED, response);
+        partyCache.putAfterCommit(response);
+        partyIndex.indexAfterCommit(savedEntity.getId(), savedEntity.getEmailId(), savedEntity.getPhoneNo(), null, null);
+        partyTypeahead.indexAfterCommit(savedEntity.getId(), savedEntity.getCustFirstName(),
+                savedEntity.getCustLastName(), null, null);
+        return response;
+    }
+
+    /**
+     * Check whether a party already has this email. A definite "no" from the party index or Bloom
+     * filter answers without a query; a "maybe" is confirmed against the table.
+     */
+    private boolean emailTaken(String emailId) {
+        if (partyIndex.canRuleOutKeys() && !partyIndex.mightContainEmail(emailId)) {
+            return false;
+        }
+        return partyRepository.existsByEmailId(emailId);
+    }
+
+    private boolean phoneTaken(String phoneNo) {
+        if (partyIndex.canRuleOutKeys() && !partyIndex.mightContainPhone(phoneNo)) {
+            return false;
+        }
+        return partyRepository.existsByPhoneNo(phoneNo);
+    }
+
+    /**
+     * Create parties in bulk.
+     * Items are persisted in chunks of {@code app.party.batch.chunk-size}, each chunk in its own
+     * transaction and flushed as JDBC batches. When a chunk fails (typically a duplicate email or
+     * phone), its items are retried one by one so only the offending rows are reported as failed.
+     *
+     * @param requests validated party requests keyed by their position in the original batch
+     * @return the per-item results, in the same order as the input
+     */
+    public List<PartyBatchResult> createParties(Map<Integer, PartyRequest> requests) {
+        log.info("Creating {} parties in chunks of {}", requests.size(), batchChunkSize);
+        List<PartyBatchResult> results = new ArrayList<>(requests.size());
+        List<Map.Entry<Integer, PartyRequest>> items = new ArrayList<>(requests.entrySet());
+        for (List<Map.Entry<Integer, PartyRequest>> chunk : CollectionUtils.partition(items, batchChunkSize)) {
+            try {
+                results.addAll(transactionTemplate.execute(status -> persistChunk(chunk)));
+            } catch (DataAccessException e) {
+                log.warn("Batch chunk of {} parties failed, retrying items individually: {}", chunk.size(), e.getMessage());
+                for (Map.Entry<Integer, PartyRequest> item : chunk) {
+                    results.add(persistSingle(item.getKey(), item.getValue()));
+                }
+            }
+        }
+        log.info("Batch create finished for {} parties", requests.size());
+        return results;
+    }
+
+    private List<PartyBatchResult> persistChunk(List<Map.Entry<Integer, PartyRequest>> chunk) {
+        List<PartyEntity> entities = new ArrayList<>(chunk.size());
+        for (Map.Entry<Integer, PartyRequest> item : chunk) {
+            entities.add(partyMapper.toEntity(item.getValue()));
+        }
+        partyRepository.saveAll(entities);
+        partyRepository.flush();
+        List<PartyBatchResult> results = new ArrayList<>(chunk.size());
+        List<PartyKeys> keys = new ArrayList<>(chunk.size());
+        List<PartyNames> names = new ArrayList<>(chunk.size());
+        List<PartyResponse> created = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            PartyEntity entity = entities.get(i);
+            results.add(PartyBatchResult.created(chunk.get(i).getKey(), entity.getId()));
+            keys.add(new PartyKeys(entity.getId(), entity.getEmailId(), entity.getPhoneNo()));
+            names.add(new PartyNames(entity.getId(), entity.getCustFirstName(), entity.getCustLastName()));
+            created.add(partyMapper.toResponse(entity));
+        }
+        partyOutboxRepository.appendAll(PartyChangeType.CREATED, created);
+        partyIndex.indexAllAfterCommit(keys);
+        partyTypeahead.indexAllAfterCommit(names);
+        return results;
+    }
+
+    private PartyBatchResult persistSingle(int index, PartyRequest request) {
+        try {
+            PartyEntity saved = transactionTemplate.execute(status -> {
+                PartyEntity entity = partyRepository.saveAndFlush(partyMapper.toEntity(request));
+                partyOutboxRepository.append(PartyChangeType.CREATED, partyMapper.toResponse(entity));
+                partyIndex.indexAfterCommit(entity.getId(), entity.getEmailId(), entity.getPhoneNo(), null, null);
+                partyTypeahead.indexAfterCommit(entity.getId(), entity.getCustFirstName(), entity.getCustLastName(),
+                        null, null);
+                return entity;
+            });
+            return PartyBatchResult.created(index, saved.getId());
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                return PartyBatchResult.failed(index, conflictMessage(e));
+            }
+            log.error("Party at batch index {} violates a database constraint: {}", index, e.getMostSpecificCause().getMessage());
+            return PartyBatchResult.failed(index, "Party violates a database constraint");
+        } catch (DataAccessException e) {
+            log.error("Failed to create party at batch index {}: {}", index, e.getMessage());
+            return PartyBatchResult.failed(index, "Unable to create party");
+        }
     }
 
     /**
      * Update an existing party.
+     * With {@code app.party.update.single-statement} enabled the update is one
+     * {@code UPDATE ... RETURNING} round trip; otherwise the entity is loaded, checked and saved
+     * under optimistic locking. In both modes a duplicate email or phone number is reported by
+     * the unique constraints and surfaces as a {@link ConflictException}. Expected versions (from
+     * {@code If-Match}) are checked atomically with the write, by the statement's WHERE clause or
+     * by the optimistic lock.
      *
-     * @param id      the party ID
-     * @param request the party request with updated data
+     * An unconditional load-and-save update only merges the request's fields, so when it loses an
+     * optimistic locking race it is retried in a new transaction with a fresh read, up to
+     * {@code app.party.update.retry.max-retries} times, before the conflict is reported.
+     *
+     * @param id               the party ID
+     * @param request          the party request with updated data
+     * @param expectedVersions versions the party must still have, or null for an unconditional update
      * @return the updated party response
+     * @throws PreconditionFailedException if the party's version is not one of the expected ones
      */
-    @Transactional
-    public PartyResponse updateParty(Long id, PartyRequest request) {
+    public PartyResponse updateParty(Long id, PartyRequest request, List<Long> expectedVersions) {
 
         log.info("Updating party with id: {}", id);
+        PartyResponse response = singleStatementUpdate || expectedVersions != null
+                ? transactionTemplate.execute(status -> applyUpdate(id, request, expectedVersions))
+                : updateWithRetry(id, request);
+        log.info("Party updated successfully with id: {}", response.getId());
+        return response;
+    }
+
+    private PartyResponse updateWithRetry(Long id, PartyRequest request) {
+        try {
+            return partyUpdateRetryTemplate.execute(
+                    () -> transactionTemplate.execute(status -> applyUpdate(id, request, null)));
+        } catch (RetryException e) {
+            if (e.getCause() instanceof OptimisticLockingFailureException) {
+                recordConflict("updateParty", "exhausted");
+                throw ConflictException.stackless("Party " + id + " is being modified concurrently, retry later");
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private PartyResponse applyUpdate(Long id, PartyRequest request, List<Long> expectedVersions) {
+        UpdatedParty updated;
+        try {
+            updated = singleStatementUpdate
+                    ? updateInPlace(id, request, expectedVersions)
+                    : updateLoaded(id, request, expectedVersions);
+        } catch (DataIntegrityViolationException e) {
+            recordConflict("updateParty", "duplicate_key");
+            throw ConflictException.stackless(conflictMessage(e));
+        }
+        PartyResponse response = updated.getParty();
+        partyOutboxRepository.append(PartyChangeType.UPDATED, response);
+        partyCacheCoherence.publish(id, response.getVersion());
+        partyCache.putAfterCommit(response);
+        partyIndex.indexAfterCommit(id, response.getEmailId(), response.getPhoneNo(),
+                updated.getPreviousEmailId(), updated.getPreviousPhoneNo());
+        partyTypeahead.indexAfterCommit(id, response.getCustFirstName(), response.getCustLastName(),
+                updated.getPreviousCustFirstName(), updated.getPreviousCustLastName());
+        return response;
+    }
+
+    private UpdatedParty updateInPlace(Long id, PartyRequest request, List<Long> expectedVersions) {
+        if (expectedVersions != null && expectedVersions.isEmpty()) {
+            throw versionMismatch(id);
+        }
+        return partyUpdateRepository.update(id, request, expectedVersions)
+                .orElseThrow(() -> versionMismatch(id));
+    }
+
+    /**
+     * Explain why a conditional update matched no row: the party is gone, or it has changed.
+     */
+    private RuntimeException versionMismatch(Long id) {
+        if (!partyRepository.existsById(id)) {
+            return ResourceNotFoundException.stackless("Party not found with id: " + id);
+        }
+        return preconditionFailed(id);
+    }
+
+    private PreconditionFailedException preconditionFailed(Long id) {
+        recordConflict("updateParty", "precondition_failed");
+        return PreconditionFailedException.stackless("Party " + id + " was modified by another request");
+    }
+
+    private void recordConflict(String operation, String outcome) {
+        meterRegistry.counter(WRITE_CONFLICTS_METRIC, "operation", operation, "outcome", outcome).increment();
+    }
+
+    private UpdatedParty updateLoaded(Long id, PartyRequest request, List<Long> expectedVersions) {
         PartyEntity existingEntity = partyRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Party not found with id: " + id));
+                .orElseThrow(() -> ResourceNotFoundException.stackless("Party not found with id: " + id));
+        if (expectedVersions != null && !expectedVersions.contains(existingEntity.getVersion())) {
+            throw preconditionFailed(id);
+        }
+        String previousCustFirstName = existingEntity.getCustFirstName();
+        String previousCustLastName = existingEntity.getCustLastName();
+        String previousEmailId = existingEntity.getEmailId();
+        String previousPhoneNo = existingEntity.getPhoneNo();
         // Check for conflicts with emailId
-        if (!existingEntity.getEmailId().equals(request.getEmailId())) {
-            if (partyRepository.existsByEmailId(request.getEmailId())) {
-                throw new ConflictException("Party with emailId " + request.getEmailId() + " already exists");
+        if (!previousEmailId.equals(request.getEmailId())) {
+            if (emailTaken(request.getEmailId())) {
+                throw ConflictException.stackless("Party with emailId " + request.getEmailId() + " already exists");
             }
         }
         partyMapper.updateEntityFromRequest(existingEntity, request);
-        PartyEntity updatedEntity = partyRepository.save(existingEntity);
-        log.info("Party updated successfully with id: {}", updatedEntity.getId());
-        return partyMapper.toResponse(updatedEntity);
+        PartyEntity updatedEntity;
+        try {
+            updatedEntity = partyRepository.saveAndFlush(existingEntity);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersions != null) {
+                // Modified between the version check and the flush, so the client's version is gone
+                throw preconditionFailed(id);
+            }
+            throw e;
+        }
+        return new UpdatedParty(partyMapper.toResponse(updatedEntity), previousCustFirstName, previousCustLastName,
+                previousEmailId, previousPhoneNo);
+    }
+
+    /**
+     * Whether the violation is PostgreSQL's unique_violation (SQLSTATE 23505), as opposed to a
+     * not-null, length or check violation.
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Name the clashing field from PostgreSQL's unique violation detail, e.g.
+     * {@code Key (email_id)=(...) already exists}.
+     */
+    private static String conflictMessage(DataIntegrityViolationException e) {
+        String detail = String.valueOf(e.getMostSpecificCause().getMessage());
+        if (detail.contains("(email_id)")) {
+            return "Party with same emailId already exists";
+        }
+        if (detail.contains("(phone_no)")) {
+            return "Party with same phoneNo already exists";
+        }
+        return "Party with same emailId or phoneNo already exists";
     }
 
     /**
      * Get party by customer ID.
+     * Served from the party cache; only misses reach the database, so no transaction is
+     * opened here and cache hits never borrow a pooled connection.
      *
      * @param custId the customer ID
      * @return the party response
      */
-    @Transactional(readOnly = true)
     public PartyResponse getPartyByCustId(Long custId) {
         log.debug("Fetching party with custId: {}", custId);
+        return partyCache.get(custId, this::loadParty);
+    }
 
+    private PartyResponse loadParty(Long custId) {
         PartyEntity entity = partyRepository.findById(custId)
                 .orElseThrow(() -> {
-                    log.error("Party not found with custId: {}", custId);
-                    return new ResourceNotFoundException("Party not found with custId: " + custId);
+                    log.debug("Party not found with custId: {}", custId);
+                    return PARTY_NOT_FOUND;
                 });
 
         return partyMapper.toResponse(entity);
     }
-}
 
+    /**
+     * Get the optimistic lock version of a party, for ETag checks.
+     * Served from the party cache or its version cache; a miss reads only the version column.
+     *
+     * @param custId the customer ID
+     * @return the party's version
+     */
+    public Long getPartyVersion(Long custId) {
+        return partyCache.getVersion(custId, id -> partyRepository.findVersionById(id).orElseThrow(() -> PARTY_NOT_FOUND));
+    }
+
+    private PartyResponse findParty(Long custId) {
+        return partyRepository.findById(custId).map(partyMapper::toResponse).orElse(null);
+    }
+
+    /**
+     * Get party by email, matched case-insensitively.
+     * Resolved through the party index and cache when the index is enabled; otherwise, or when the
+     * index does not know the email and {@code app.party.index.miss-fallback} is on, the
+     * {@code lower(email_id)} expression index is queried. With several matches the lowest id wins.
+     *
+     * @param emailId the email
+     * @return the party response
+     */
+    public PartyResponse getPartyByEmail(String emailId) {
+        log.debug("Fetching party by email");
+        String email = StringUtils.normalizeEmail(emailId);
+        PartyResponse party = firstMatch(partyIndex.findByEmail(email),
+                candidate -> email.equals(StringUtils.normalizeEmail(candidate.getEmailId())));
+        if (party != null) {
+            return party;
+        }
+        if (partyIndex.isReady() && !indexMissFallback) {
+            throw PARTY_NOT_FOUND;
+        }
+        return partyRepository.findFirstByNormalizedEmail(email)
+                .map(partyMapper::toResponse)
+                .orElseThrow(() -> PARTY_NOT_FOUND);
+    }
+
+    /**
+     * Get party by phone number, matched on its digits only.
+     * Resolved like {@link #getPartyByEmail(String)}, falling back to the digits-only expression index.
+     *
+     * @param phoneNo the phone number
+     * @return the party response
+     */
+    public PartyResponse getPartyByPhone(String phoneNo) {
+        log.debug("Fetching party by phone number");
+        String phone = StringUtils.normalizePhoneNumber(phoneNo);
+        PartyResponse party = firstMatch(partyIndex.findByPhone(phone),
+                candidate -> phone.equals(StringUtils.normalizePhoneNumber(candidate.getPhoneNo())));
+        if (party != null) {
+            return party;
+        }
+        if (partyIndex.isReady() && !indexMissFallback) {
+            throw PARTY_NOT_FOUND;
+        }
+        return partyRepository.findFirstByNormalizedPhone(phone)
+                .map(partyMapper::toResponse)
+                .orElseThrow(() -> PARTY_NOT_FOUND);
+    }
+
+    /**
+     * Resolve index candidates through the party cache and keep the lowest id that really matches;
+     * candidates can be fingerprint collisions or parties whose keys have since changed.
+     */
+    private PartyResponse firstMatch(long[] candidates, Predicate<PartyResponse> matches) {
+        PartyResponse match = null;
+        for (long custId : candidates) {
+            if (match != null && custId > Long.parseLong(match.getId())) {
+                continue;
+            }
+            PartyResponse party = partyCache.get(custId, this::findParty);
+            if (party != null && matches.test(party)) {
+                match = party;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Look up many parties by customer ID.
+     * Cached parties are served from the cache; the rest are fetched with one {@code IN} query per
+     * chunk of {@code app.party.lookup.chunk-size} ids. Each chunk is handed to the consumer in
+     * request order as soon as it is resolved, so callers can stream the result.
+     * Bulk-loaded rows are not put into the cache, since a concurrent committed update could
+     * otherwise be overwritten with the older row.
+     *
+     * @param custIds       the customer IDs, duplicates are ignored
+     * @param chunkConsumer receives the parties found for each chunk
+     * @return the customer IDs that were not found
+     */
+    public List<Long> lookupParties(List<Long> custIds, Consumer<List<PartyResponse>> chunkConsumer) {
+        log.debug("Looking up {} parties", custIds.size());
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(custIds));
+        List<Long> missingIds = new ArrayList<>();
+        for (List<Long> chunk : CollectionUtils.partition(distinctIds, lookupChunkSize)) {
+            Map<Long, PartyResponse> found = new HashMap<>();
+            List<Long> uncached = new ArrayList<>();
+            for (Long custId : chunk) {
+                PartyResponse cached = partyCache.getIfPresent(custId);
+                if (cached != null) {
+                    found.put(custId, cached);
+                } else {
+                    uncached.add(custId);
+                }
+            }
+            if (!uncached.isEmpty()) {
+                for (PartyEntity entity : partyRepository.findAllById(uncached)) {
+                    found.put(entity.getId(), partyMapper.toResponse(entity));
+                }
+            }
+            List<PartyResponse> parties = new ArrayList<>(found.size());
+            for (Long custId : chunk) {
+                PartyResponse party = found.get(custId);
+                if (party != null) {
+                    parties.add(party);
+                } else {
+                    missingIds.add(custId);
+                }
+            }
+            chunkConsumer.accept(parties);
+        }
+        log.debug("Lookup resolved {} parties, {} missing", distinctIds.size() - missingIds.size(), missingIds.size());
+        return missingIds;
+    }
+
+    /**
+     * List parties page by page using keyset pagination on id.
+     * Each page is a single index range scan, so deep pages cost the same as the first one.
+     *
+     * @param afterId     return parties with an id greater than this
+     * @param size        the page size
+     * @param lastName    optional exact last name filter
+     * @param emailDomain optional email domain filter, case-insensitive
+     * @return the page, with the cursor for the next page
+     */
+    @Transactional(readOnly = true)
+    public PartyPageResponse listParties(long afterId, int size, String lastName, String emailDomain) {
+        log.debug("Listing parties after id {} (size {}, lastName {}, emailDomain {})", afterId, size, lastName, emailDomain);
+        List<PartyResponse> parties = emailDomain == null
+                ? partyRepository.findPageAfter(afterId, lastName, Limit.of(size + 1))
+                : partyRepository.findPageAfterInEmailDomain(afterId, lastName, emailDomain.toLowerCase(Locale.ROOT),
+                        Limit.of(size + 1));
+        boolean hasMore = parties.size() > size;
+        if (hasMore) {
+            parties = parties.subList(0, size);
+        }
+        return PartyPageResponse.builder()
+                .parties(parties)
+                .hasMore(hasMore)
+                .nextAfterId(hasMore ? Long.valueOf(parties.get(size - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * Search parties by partial or misspelled first or last name, best match first.
+     * The search is cut off after {@code app.party.search.timeout} so that a term matching a
+     * large share of the table cannot hold a connection for long.
+     *
+     * @param term  the name or part of a name
+     * @param limit the maximum number of parties
+     * @return the matching parties
+     * @throws ServiceUnavailableException if the search timed out
+     */
+    @Transactional(readOnly = true)
+    public List<PartyResponse> searchParties(String term, int limit) {
+        log.debug("Searching parties by name (limit {})", limit);
+        try {
+            return partySearchRepository.search(term, limit, searchMinSimilarity, searchTimeout);
+        } catch (QueryTimeoutException e) {
+            log.warn("Party search timed out after {}", searchTimeout);
+            throw new ServiceUnavailableException("Search took too long, use a more specific name");
+        }
+    }
+
+    /**
+     * Complete a prefix of a first or last name from the in-process typeahead, without a query.
+     * Each suggestion is a name with the number of parties that have it and the lowest of their
+     * custIds, up to {@code app.party.typeahead.ids-per-name}.
+     *
+     * @param prefix the start of a first or last name
+     * @param limit  the maximum number of names
+     * @return the matching names in alphabetical order
+     * @throws ServiceUnavailableException if the typeahead is disabled or still warming up
+     */
+    public List<PartySuggestion> suggestParties(String prefix, int limit) {
+        if (!partyTypeahead.isReady()) {
+            throw new ServiceUnavailableException(partyTypeahead.isEnabled()
+                    ? "Typeahead is warming up, retry later"
+                    : "Typeahead is not enabled");
+        }
+        List<TypeaheadIndex.Match> matches = partyTypeahead.suggest(prefix, limit, typeaheadIdsPerName);
+        List<PartySuggestion> suggestions = new ArrayList<>(matches.size());
+        for (TypeaheadIndex.Match match : matches) {
+            List<String> custIds = new ArrayList<>(match.getCustIds().length);
+            for (long custId : match.getCustIds()) {
+                custIds.add(String.valueOf(custId));
+            }
+            suggestions.add(PartySuggestion.builder()
+                    .name(match.getName())
+                    .partyCount(match.getPartyCount())
+                    .custIds(custIds)
+                    .build());
+        }
+        return suggestions;
+    }
+}
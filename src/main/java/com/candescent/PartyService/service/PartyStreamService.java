@@ -0,0 +1,420 @@
+package com.candescent.PartyService.service;
+
+import com.candescent.PartyService.common.exception.ServiceUnavailableException;
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+import com.candescent.PartyService.dto.response.PartyChangeNotice;
+import com.candescent.PartyService.dto.response.PartyChangePage;
+import com.candescent.PartyService.repository.PartyOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service behind the party change stream.
+ *
+ * Subscribers are Server-Sent Events emitters, so an idle subscriber holds a connection but no
+ * thread. The outbox relay reports each new feed head; the changes up to it are read once per run
+ * and queued to every subscriber, and a small pool of sender threads writes each queue out. A
+ * subscriber whose queue fills up is disconnected, or with {@code app.party.stream.overflow=drop}
+ * has its queue dropped and is sent a {@code reset} event telling it to discard what it cached.
+ *
+ * Servlet writes block while the client's TCP window is full. A subscriber whose write has been
+ * blocked for longer than {@code app.party.stream.write-timeout} is disconnected, and the pool gets
+ * an extra thread for as long as the blocked write holds one of its threads, so stalled clients
+ * never take sender threads away from the others.
+ *
+ * Event ids are feed positions, so a client reconnecting with {@code Last-Event-ID} is first sent
+ * the changes it missed, or a {@code reset} if it missed more than fit in its queue.
+ */
+@Slf4j
+@Service
+public class PartyStreamService {
+
+    public enum OverflowPolicy { DISCONNECT, DROP }
+
+    private static final String CHANGE_EVENT = "change";
+    private static final String RESET_EVENT = "reset";
+
+    private final PartyChangeService partyChangeService;
+    private final PartyOutboxRepository partyOutboxRepository;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final OverflowPolicy overflowPolicy;
+    private final long writeTimeoutNanos;
+    private final int sendThreads;
+    private final ThreadPoolExecutor sender;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Timer fanOutTimer;
+    private final Timer deliveryTimer;
+    private final Counter disconnectedOverflows;
+    private final Counter droppedOverflows;
+    private final Counter writeTimeouts;
+    // Position up to which changes have been queued to subscribers; guarded by this
+    private long streamedHead = -1;
+    // Sender threads held by writes that timed out; guarded by sender
+    private int stalledSenders;
+
+    public PartyStreamService(PartyChangeService partyChangeService,
+                              PartyOutboxRepository partyOutboxRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.party.stream.timeout:30m}") Duration timeout,
+                              @Value("${app.party.stream.max-subscribers:10000}") int maxSubscribers,
+                              @Value("${app.party.stream.buffer-size:1000}") int bufferSize,
+                              @Value("${app.party.stream.page-size:250}") int pageSize,
+                              @Value("${app.party.stream.max-pages-per-run:4}") int maxPagesPerRun,
+                              @Value("${app.party.stream.overflow:disconnect}") OverflowPolicy overflowPolicy,
+                              @Value("${app.party.stream.send-threads:4}") int sendThreads,
+                              @Value("${app.party.stream.write-timeout:10s}") Duration writeTimeout) {
+        this.partyChangeService = partyChangeService;
+        this.partyOutboxRepository = partyOutboxRepository;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.pageSize = pageSize;
+        this.maxPagesPerRun = maxPagesPerRun;
+        this.overflowPolicy = overflowPolicy;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.sendThreads = sendThreads;
+        // Grows past sendThreads only to replace threads held by stalled writes
+        this.sender = new ThreadPoolExecutor(sendThreads, sendThreads + maxSubscribers, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("party-stream-"));
+        Gauge.builder("party.stream.subscribers", subscribers, Set::size)
+                .description("Party change stream subscribers on this node")
+                .register(meterRegistry);
+        this.fanOutTimer = Timer.builder("party.stream.fanout")
+                .description("Time to queue a page of changes to every subscriber")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("party.stream.delivery")
+                .description("Time from a change being recorded to it being written to a subscriber")
+                .register(meterRegistry);
+        this.disconnectedOverflows = Counter.builder("party.stream.overflows")
+                .description("Subscribers whose queue filled up")
+                .tag("action", "disconnect")
+                .register(meterRegistry);
+        this.droppedOverflows = Counter.builder("party.stream.overflows")
+                .description("Subscribers whose queue filled up")
+                .tag("action", "drop")
+                .register(meterRegistry);
+        this.writeTimeouts = Counter.builder("party.stream.write.timeouts")
+                .description("Subscribers disconnected because a write to them blocked for too long")
+                .register(meterRegistry);
+        log.info("Party change stream initialized: maxSubscribers={}, bufferSize={}, overflow={}, sendThreads={}, "
+                + "writeTimeout={}", maxSubscribers, bufferSize, overflowPolicy, sendThreads, writeTimeout);
+    }
+
+    /**
+     * Open a stream of the changes after a position.
+     *
+     * @param lastEventId the last position the client received, or null to stream only new changes
+     * @return the emitter to return from the request
+     * @throws ServiceUnavailableException if this node already has the maximum number of subscribers
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            close(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscribers.remove(subscriber));
+        // An opening comment flushes the response headers, so the client knows it is connected
+        subscriber.heartbeatPending = true;
+        synchronized (this) {
+            // Checked under the lock, so concurrent subscribes cannot together pass the limit
+            if (subscribers.size() >= maxSubscribers) {
+                throw new ServiceUnavailableException("Too many change stream subscribers, retry later");
+            }
+            if (streamedHead < 0) {
+                streamedHead = partyOutboxRepository.findHeadPosition();
+            }
+            // Clients behind the stream are caught up on the next relay run
+            subscriber.cursor = lastEventId == null ? streamedHead : lastEventId;
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * @return true if any client is subscribed on this node
+     */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Queue the changes up to the feed head to the subscribers. Called by the outbox relay after
+     * each run; a large backlog is streamed over several runs.
+     *
+     * @param head the position of the latest relayed change
+     */
+    public synchronized void onRelayed(long head) {
+        if (subscribers.isEmpty()) {
+            streamedHead = Math.max(streamedHead, head);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.cursor < streamedHead) {
+                catchUp(subscriber);
+            }
+        }
+        for (int page = 0; page < maxPagesPerRun && streamedHead < head; page++) {
+            PartyChangePage changes = partyChangeService.getChanges(streamedHead, pageSize);
+            if (changes.getChanges().isEmpty()) {
+                break;
+            }
+            Timer.Sample sample = Timer.start();
+            for (Subscriber subscriber : subscribers) {
+                offer(subscriber, changes.getChanges());
+            }
+            sample.stop(fanOutTimer);
+            streamedHead = changes.getNextSince();
+        }
+    }
+
+    private void catchUp(Subscriber subscriber) {
+        // A backlog larger than the queue would overflow it at once
+        PartyChangePage missed = partyChangeService.getChanges(subscriber.cursor, bufferSize);
+        if (missed.isHasMore()) {
+            synchronized (subscriber) {
+                subscriber.queue.clear();
+                subscriber.resetPending = true;
+            }
+            subscriber.cursor = streamedHead;
+            schedule(subscriber);
+        } else {
+            offer(subscriber, missed.getChanges());
+        }
+    }
+
+    private void offer(Subscriber subscriber, List<PartyChangeEvent> events) {
+        synchronized (subscriber) {
+            for (PartyChangeEvent event : events) {
+                if (event.getPosition() <= subscriber.cursor) {
+                    continue;
+                }
+                subscriber.cursor = event.getPosition();
+                if (subscriber.queue.size() < bufferSize) {
+                    subscriber.queue.add(event);
+                } else if (overflowPolicy == OverflowPolicy.DROP) {
+                    droppedOverflows.increment();
+                    subscriber.queue.clear();
+                    subscriber.resetPending = true;
+                } else {
+                    disconnectedOverflows.increment();
+                    subscriber.closed = true;
+                    subscribers.remove(subscriber);
+                    break;
+                }
+            }
+        }
+        schedule(subscriber);
+    }
+
+    /**
+     * Send a comment to every subscriber so idle connections stay open through proxies and
+     * dropped clients are noticed.
+     */
+    @Scheduled(fixedDelayString = "${app.party.stream.heartbeat-interval:15s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            synchronized (subscriber) {
+                subscriber.heartbeatPending = true;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Disconnect subscribers whose current write has been blocked for longer than the write
+     * timeout, and replace the sender threads those writes hold. The blocked write itself ends
+     * when the container's own write timeout closes the connection.
+     */
+    @Scheduled(fixedDelayString = "${app.party.stream.write-timeout:10s}")
+    public void disconnectStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long blockedNanos;
+            synchronized (subscriber) {
+                blockedNanos = now - subscriber.sendStartedAt;
+                if (subscriber.sendStartedAt == 0 || blockedNanos < writeTimeoutNanos) {
+                    continue;
+                }
+                subscriber.stalled = true;
+                subscriber.closed = true;
+            }
+            subscribers.remove(subscriber);
+            writeTimeouts.increment();
+            log.debug("Dropping party change stream subscriber: write blocked for {} ms", blockedNanos / 1_000_000);
+            resizeSender(1);
+        }
+    }
+
+    private void resizeSender(int stalledDelta) {
+        synchronized (sender) {
+            stalledSenders += stalledDelta;
+            sender.setCorePoolSize(Math.min(sendThreads + stalledSenders, sender.getMaximumPoolSize()));
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        synchronized (subscriber) {
+            subscriber.closed = true;
+        }
+        subscribers.remove(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        synchronized (subscriber) {
+            if (subscriber.draining) {
+                return;
+            }
+            subscriber.draining = true;
+        }
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    /**
+     * Write out a subscriber's queue until it is empty. Runs on one sender thread at a time per
+     * subscriber; a client that stops reading holds that thread until its write times out, and
+     * the pool replaces the thread meanwhile, so a slow client holds up only itself.
+     */
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            List<PartyChangeEvent> events;
+            boolean reset;
+            boolean heartbeat;
+            synchronized (subscriber) {
+                if (subscriber.closed) {
+                    subscriber.draining = false;
+                    subscriber.emitter.complete();
+                    return;
+                }
+                if (subscriber.queue.isEmpty() && !subscriber.resetPending && !subscriber.heartbeatPending) {
+                    subscriber.draining = false;
+                    return;
+                }
+                events = new ArrayList<>(subscriber.queue);
+                subscriber.queue.clear();
+                reset = subscriber.resetPending;
+                heartbeat = subscriber.heartbeatPending;
+                subscriber.resetPending = false;
+                subscriber.heartbeatPending = false;
+                subscriber.sendStartedAt = System.nanoTime();
+            }
+            try {
+                send(subscriber.emitter, events, reset, heartbeat);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping party change stream subscriber: {}", e.getMessage());
+                synchronized (subscriber) {
+                    subscriber.closed = true;
+                    subscriber.draining = false;
+                }
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            } finally {
+                endSend(subscriber);
+            }
+        }
+    }
+
+    private void endSend(Subscriber subscriber) {
+        boolean stalled;
+        synchronized (subscriber) {
+            subscriber.sendStartedAt = 0;
+            stalled = subscriber.stalled;
+            subscriber.stalled = false;
+        }
+        if (stalled) {
+            // This thread is back; the one added in its place goes once idle
+            resizeSender(-1);
+        }
+    }
+
+    private void send(SseEmitter emitter, List<PartyChangeEvent> events, boolean reset, boolean heartbeat)
+            throws IOException {
+        if (reset) {
+            emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+        }
+        for (PartyChangeEvent event : events) {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getPosition()))
+                    .name(CHANGE_EVENT)
+                    .data(PartyChangeNotice.builder()
+                            .custId(event.getParty().getId())
+                            .version(event.getVersion())
+                            .type(event.getType())
+                            .modifiedTs(event.getOccurredAt())
+                            .build(), MediaType.APPLICATION_JSON));
+        }
+        if (!events.isEmpty()) {
+            deliveryTimer.record(Duration.between(events.get(0).getOccurredAt(), Instant.now()));
+        }
+        if (heartbeat && events.isEmpty() && !reset) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<PartyChangeEvent> queue = new ArrayDeque<>();
+        // Last position queued; written only by the relay, under the service lock
+        private long cursor;
+        private boolean resetPending;
+        private boolean heartbeatPending;
+        private boolean draining;
+        private boolean closed;
+        // System.nanoTime() when the write in progress started, or 0; guarded by the subscriber
+        private long sendStartedAt;
+        // Whether the write in progress timed out and its thread was replaced
+        private boolean stalled;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.candescent.PartyService.validation;
+
+import com.candescent.PartyService.common.exception.ValidationException;
+import com.candescent.PartyService.common.util.StringUtils;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates party requests for every write path (single, batch and import).
+ *
+ * Email and phone formats are checked with single-pass scanners equivalent to
+ * {@code ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$} and {@code ^[0-9+\-\s()]{7,20}$}.
+ * All field errors are collected in one pass; a valid request allocates nothing.
+ */
+@Component
+public class PartyRequestValidator {
+
+    public static final String REQUEST_REQUIRED = "Party request cannot be null";
+    public static final String FIRST_NAME_REQUIRED = "First name is required";
+    public static final String FIRST_NAME_TOO_LONG = "First name must not exceed 100 characters";
+    public static final String LAST_NAME_REQUIRED = "Last name is required";
+    public static final String LAST_NAME_TOO_LONG = "Last name must not exceed 100 characters";
+    public static final String EMAIL_REQUIRED = "Email ID is required";
+    public static final String EMAIL_TOO_LONG = "Email ID must not exceed 255 characters";
+    public static final String EMAIL_INVALID = "Invalid email format";
+    public static final String PHONE_REQUIRED = "Phone number is required";
+    public static final String PHONE_INVALID = "Invalid phone number format";
+
+    private static final String ERROR_SEPARATOR = "; ";
+    private static final int PHONE_MIN_LENGTH = 7;
+    private static final int PHONE_MAX_LENGTH = 20;
+    private static final int TLD_MIN_LENGTH = 2;
+    // Column lengths of the party table
+    private static final int NAME_MAX_LENGTH = 100;
+    private static final int EMAIL_MAX_LENGTH = 255;
+
+    /**
+     * Validate a party request, failing with every field error at once.
+     *
+     * @param request the party request
+     * @throws ValidationException if any field is invalid
+     */
+    public void validate(PartyRequest request) {
+        List<String> errors = collectErrors(request);
+        if (!errors.isEmpty()) {
+            throw ValidationException.stackless(String.join(ERROR_SEPARATOR, errors), errors);
+        }
+    }
+
+    /**
+     * Collect all field errors of a party request.
+     *
+     * @param request the party request
+     * @return the error messages, an immutable empty list when the request is valid
+     */
+    public List<String> collectErrors(PartyRequest request) {
+        if (request == null) {
+            return List.of(REQUEST_REQUIRED);
+        }
+        List<String> errors = null;
+        if (StringUtils.isBlank(request.getCustFirstName())) {
+            errors = add(errors, FIRST_NAME_REQUIRED);
+        } else if (request.getCustFirstName().length() > NAME_MAX_LENGTH) {
+            errors = add(errors, FIRST_NAME_TOO_LONG);
+        }
+        if (StringUtils.isBlank(request.getCustLastName())) {
+            errors = add(errors, LAST_NAME_REQUIRED);
+        } else if (request.getCustLastName().length() > NAME_MAX_LENGTH) {
+            errors = add(errors, LAST_NAME_TOO_LONG);
+        }
+        if (StringUtils.isBlank(request.getEmailId())) {
+            errors = add(errors, EMAIL_REQUIRED);
+        } else if (request.getEmailId().length() > EMAIL_MAX_LENGTH) {
+            errors = add(errors, EMAIL_TOO_LONG);
+        } else if (!isValidEmail(request.getEmailId())) {
+            errors = add(errors, EMAIL_INVALID);
+        }
+        if (StringUtils.isBlank(request.getPhoneNo())) {
+            errors = add(errors, PHONE_REQUIRED);
+        } else if (!isValidPhoneNumber(request.getPhoneNo())) {
+            errors = add(errors, PHONE_INVALID);
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    /**
+     * Validate email format.
+     *
+     * @param email the email to validate
+     * @return true if valid, false otherwise
+     */
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isAlphanumeric(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isAlphanumeric(c) && c != '-') {
+                return false;
+            }
+        }
+        // Non-empty local part, non-empty domain label before the last dot, and a letters-only TLD
+        if (at <= 0 || lastDot <= at + 1 || length - lastDot - 1 < TLD_MIN_LENGTH) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate phone number format.
+     * Allows digits, whitespace, hyphens, parentheses, and plus sign.
+     *
+     * @param phoneNo the phone number to validate
+     * @return true if valid, false otherwise
+     */
+    public static boolean isValidPhoneNumber(String phoneNo) {
+        if (phoneNo == null) {
+            return false;
+        }
+        int length = phoneNo.length();
+        if (length < PHONE_MIN_LENGTH || length > PHONE_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = phoneNo.charAt(i);
+            boolean allowed = (c >= '0' && c <= '9') || c == '+' || c == '-' || c == '(' || c == ')'
+                    || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> add(List<String> errors, String error) {
+        List<String> target = errors == null ? new ArrayList<>(4) : errors;
+        target.add(error);
+        return target;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+}
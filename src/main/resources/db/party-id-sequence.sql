@@ -0,0 +1,33 @@
+-- One-time migration for databases whose party rows were created while party.id was an IDENTITY
+-- column: moves the pooled id sequence (entity_seq, allocationSize 50 on BaseEntity) past those
+-- rows so new parties do not collide with them. Not needed on a database the application created.
+--
+-- Run once per database, before the first start of a version that allocates ids from entity_seq:
+--   psql -h <host> -U <user> -d <database> -v ON_ERROR_STOP=1 -f src/main/resources/db/party-id-sequence.sql
+-- It is not part of db/schema.sql because that runs on every start of every instance, where a
+-- setval would race with instances already allocating id blocks and could hand a block out twice.
+-- Running the file again is harmless: it only ever moves the sequence forward, and only when the
+-- next block would overlap an existing id. Concurrent runs of the file serialize on an advisory lock.
+
+-- Same definition Hibernate creates, so the file can run before the application's first start
+CREATE SEQUENCE IF NOT EXISTS entity_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+DECLARE
+    max_id    BIGINT;
+    next_hi   BIGINT;
+    increment BIGINT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('entity_seq'));
+    IF to_regclass('party') IS NULL THEN
+        RETURN;
+    END IF;
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM party;
+    SELECT increment_by INTO increment FROM pg_sequences WHERE sequencename = 'entity_seq';
+    -- A fresh value is past every block already handed out, so starting from it never rewinds
+    next_hi := nextval('entity_seq');
+    -- The pooled optimizer assigns ids (hi - increment, hi]; move on only if that block overlaps existing rows
+    IF next_hi - increment < max_id THEN
+        PERFORM setval('entity_seq', GREATEST(max_id, next_hi));
+    END IF;
+END $$;
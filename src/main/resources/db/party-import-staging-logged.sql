@@ -0,0 +1,19 @@
+-- One-time migration for databases created while party_import_staging was an UNLOGGED table: makes
+-- it logged, so the rows staged by an interrupted import job survive a crash or a failover and the
+-- job can resume against them. Not needed on a database the application created itself.
+--
+-- Run once per database, before or after the first start of a version that resumes import jobs:
+--   psql -h <host> -U <user> -d <database> -v ON_ERROR_STOP=1 -f src/main/resources/db/party-import-staging-logged.sql
+-- It is not part of db/schema.sql because SET LOGGED takes an ACCESS EXCLUSIVE lock even when the
+-- table is already logged, and rewrites it into the WAL when it is not, while schema.sql runs on
+-- every start of every instance. Running the file again is harmless: the table is only altered
+-- while it is unlogged.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class
+               WHERE oid = to_regclass('party_import_staging') AND relpersistence = 'u') THEN
+        ALTER TABLE party_import_staging SET LOGGED;
+    END IF;
+END
+$$;
@@ -0,0 +1,26 @@
+-- Party indexes that are built out of band rather than by db/schema.sql at every startup: a plain
+-- CREATE INDEX blocks writes to party for as long as the build takes, and CREATE EXTENSION needs
+-- a privilege the application's database user should not hold.
+--
+-- Run once per database, as a user allowed to create extensions, after the application has
+-- created the party table and before the endpoints that use these indexes take traffic:
+--   psql -h <host> -U <admin user> -d <database> -v ON_ERROR_STOP=1 -f src/main/resources/db/party-indexes.sql
+-- CREATE INDEX CONCURRENTLY keeps the table writable while it builds, but it cannot run inside a
+-- transaction block, so do not add --single-transaction. A build that fails leaves an INVALID
+-- index behind, which IF NOT EXISTS would skip; drop it before running the file again.
+
+-- Trigram indexes for fuzzy name search (GET /v1/party/search); pg_trgm ships with PostgreSQL's contrib modules
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_party_first_name_trgm ON party USING gin (cust_first_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_party_last_name_trgm ON party USING gin (cust_last_name gin_trgm_ops);
+
+-- Case-insensitive email and digits-only phone lookups (GET /v1/party/email/{email} and /phone/{phone})
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_party_email_lower ON party (lower(email_id));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_party_phone_digits ON party (regexp_replace(phone_no, '[^0-9]', '', 'g'));
+
+-- Party listing filtered by email domain (GET /v1/party?emailDomain=...): equality on the domain, then id order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_party_email_domain ON party (lower(split_part(email_id, '@', 2)), id);
+
+-- Expression indexes only get statistics from ANALYZE; without them lookups are planned as primary
+-- key scans. Autovacuum's auto-analyze keeps them current from here on.
+ANALYZE party;
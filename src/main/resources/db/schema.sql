@@ -0,0 +1,55 @@
+-- Runs after Hibernate schema update (spring.jpa.defer-datasource-initialization=true).
+
+-- Moving entity_seq past rows from the IDENTITY era is a one-time migration, db/party-id-sequence.sql,
+-- run out of band: a setval here would run on every start and race with running instances.
+
+-- Hibernate's pooled optimizer reads a first value equal to the sequence start as the bottom of a
+-- block rather than its top, so a block starting at 1 could not also be handed out by the import
+-- merge, which always reads values as tops. Use up the start value of a fresh sequence here, before
+-- either allocates; like any nextval this is safe while other instances are running.
+SELECT nextval('entity_seq') FROM entity_seq WHERE NOT is_called;
+
+-- Staging area for bulk party imports; rows live until their import job finishes.
+-- Logged, because interrupted jobs resume against the rows staged so far: crash recovery empties
+-- an unlogged table and a promoted standby never had its rows. Databases created while the table
+-- was unlogged are converted once by db/party-import-staging-logged.sql.
+CREATE TABLE IF NOT EXISTS party_import_staging (
+    job_id          VARCHAR(36)  NOT NULL,
+    line_no         BIGINT       NOT NULL,
+    cust_first_name VARCHAR(100) NOT NULL,
+    cust_last_name  VARCHAR(100) NOT NULL,
+    email_id        VARCHAR(255) NOT NULL,
+    phone_no        VARCHAR(20)  NOT NULL,
+    email_key       VARCHAR(255) NOT NULL,
+    phone_key       VARCHAR(20)  NOT NULL,
+    duplicate       BOOLEAN      NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (job_id, line_no)
+);
+
+-- Rows of an import file that were not imported; kept until the job is purged.
+CREATE TABLE IF NOT EXISTS party_import_rejection (
+    job_id  VARCHAR(36)   NOT NULL,
+    line_no BIGINT        NOT NULL,
+    reason  VARCHAR(1000) NOT NULL,
+    PRIMARY KEY (job_id, line_no)
+);
+
+-- Transactional outbox of party changes, written in the same transaction as the change itself.
+-- The relay numbers relayed rows with position in commit order, so feed readers that resume from
+-- a position never skip a change that committed late. created_ts is the modified_ts the change
+-- gave the party.
+CREATE SEQUENCE IF NOT EXISTS party_outbox_position_seq;
+CREATE TABLE IF NOT EXISTS party_outbox (
+    id              BIGSERIAL    PRIMARY KEY,
+    position        BIGINT,
+    party_id        BIGINT       NOT NULL,
+    change_type     VARCHAR(10)  NOT NULL,
+    version         BIGINT       NOT NULL,
+    cust_first_name VARCHAR(100) NOT NULL,
+    cust_last_name  VARCHAR(100) NOT NULL,
+    email_id        VARCHAR(255) NOT NULL,
+    phone_no        VARCHAR(20)  NOT NULL,
+    created_ts      TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS idx_party_outbox_pending ON party_outbox (id) WHERE position IS NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_party_outbox_position ON party_outbox (position);
@@ -0,0 +1,89 @@
+package com.candescent.PartyService.cache;
+
+import com.candescent.PartyService.PartyServiceApplication;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.service.PartyService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs two instances of the service against the same database and checks that an update made
+ * through one evicts the other's cached copy. The database is a throwaway PostgreSQL container,
+ * and the test is skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PartyCacheCoherenceTests {
+
+	@Container
+	private static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+	private static ConfigurableApplicationContext first;
+	private static ConfigurableApplicationContext second;
+
+	@BeforeAll
+	static void startInstances() {
+		first = startInstance();
+		second = startInstance();
+		await().atMost(Duration.ofSeconds(30)).until(() ->
+				first.getBean(PartyCacheCoherence.class).isListening()
+						&& second.getBean(PartyCacheCoherence.class).isListening());
+	}
+
+	@AfterAll
+	static void stopInstances() {
+		if (first != null) {
+			JdbcTemplate jdbcTemplate = first.getBean(JdbcTemplate.class);
+			jdbcTemplate.update("DELETE FROM party_outbox WHERE cust_last_name = 'Coherence'");
+			jdbcTemplate.update("DELETE FROM party WHERE cust_last_name = 'Coherence'");
+		}
+		if (second != null) {
+			second.close();
+		}
+		if (first != null) {
+			first.close();
+		}
+	}
+
+	private static ConfigurableApplicationContext startInstance() {
+		return new SpringApplicationBuilder(PartyServiceApplication.class)
+				.run("--server.port=0", "--app.party.cache.coherence.enabled=true",
+						"--spring.datasource.url=" + postgres.getJdbcUrl(),
+						"--spring.datasource.username=" + postgres.getUsername(),
+						"--spring.datasource.password=" + postgres.getPassword());
+	}
+
+	@Test
+	void updateEvictsCopyCachedByOtherInstance() {
+		PartyService firstService = first.getBean(PartyService.class);
+		PartyService secondService = second.getBean(PartyService.class);
+		String suffix = String.valueOf(System.nanoTime() % 10_000_000_000L);
+		Long custId = Long.valueOf(firstService.createParty(request("Ada", suffix)).getId());
+
+		assertThat(secondService.getPartyByCustId(custId).getCustFirstName()).isEqualTo("Ada");
+		firstService.updateParty(custId, request("Grace", suffix), null);
+
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+				assertThat(secondService.getPartyByCustId(custId).getCustFirstName()).isEqualTo("Grace"));
+	}
+
+	private static PartyRequest request(String firstName, String suffix) {
+		return PartyRequest.builder()
+				.custFirstName(firstName)
+				.custLastName("Coherence")
+				.emailId("coherence." + suffix + "@example.com")
+				.phoneNo(String.format("%010d", Long.parseLong(suffix)))
+				.build();
+	}
+}
@@ -0,0 +1,97 @@
+package com.candescent.PartyService.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks how {@link ETagUtils} reads {@code If-Match} and {@code If-None-Match} headers: strong
+ * comparison for the former, weak for the latter, what becomes of tags it cannot use, and how
+ * the tags of the binary formats differ from the JSON one.
+ */
+class ETagUtilsTests {
+
+	@Test
+	void buildsQuotedStrongTag() {
+		assertThat(ETagUtils.of(3)).isEqualTo("\"3\"");
+		assertThat(ETagUtils.of(0)).isEqualTo("\"0\"");
+	}
+
+	@Test
+	void suffixesTagsOfBinaryFormats() {
+		assertThat(ETagUtils.of(3, MediaType.APPLICATION_JSON)).isEqualTo("\"3\"");
+		assertThat(ETagUtils.of(3, MediaType.APPLICATION_CBOR)).isEqualTo("\"3-cbor\"");
+		assertThat(ETagUtils.of(3, MediaTypeUtils.APPLICATION_SMILE)).isEqualTo("\"3-smile\"");
+	}
+
+	@Test
+	void treatsMissingOrAnyIfMatchAsNoPrecondition() {
+		assertThat(ETagUtils.parseIfMatch(null)).isNull();
+		assertThat(ETagUtils.parseIfMatch("")).isNull();
+		assertThat(ETagUtils.parseIfMatch("  ")).isNull();
+		assertThat(ETagUtils.parseIfMatch("*")).isNull();
+		assertThat(ETagUtils.parseIfMatch(" * ")).isNull();
+		assertThat(ETagUtils.parseIfMatch("\"1\", *")).isNull();
+	}
+
+	@Test
+	void parsesEveryStrongTagOfAList() {
+		assertThat(ETagUtils.parseIfMatch("\"3\"")).containsExactly(3L);
+		assertThat(ETagUtils.parseIfMatch("\"1\",\"2\" ,  \"7\"")).containsExactly(1L, 2L, 7L);
+		assertThat(ETagUtils.parseIfMatch("\"0\", \"-1\"")).containsExactly(0L, -1L);
+	}
+
+	@Test
+	void parsesIfMatchTagsOfEveryFormat() {
+		assertThat(ETagUtils.parseIfMatch("\"3-cbor\", \"4-smile\", \"5\"")).containsExactly(3L, 4L, 5L);
+		assertThat(ETagUtils.parseIfMatch("\"-1-cbor\"")).containsExactly(-1L);
+		assertThat(ETagUtils.parseIfMatch("W/\"3-cbor\", \"x-cbor\", \"3-xml\", \"-cbor\"")).isEmpty();
+	}
+
+	@Test
+	void skipsWeakAndMalformedIfMatchTags() {
+		assertThat(ETagUtils.parseIfMatch("W/\"3\", \"4\"")).containsExactly(4L);
+		assertThat(ETagUtils.parseIfMatch("3, \"4\", \"abc\", \"\", \"5")).containsExactly(4L);
+		assertThat(ETagUtils.parseIfMatch("\"99999999999999999999\", \"6\"")).containsExactly(6L);
+		// Nothing usable is not the same as no header: no version can match
+		assertThat(ETagUtils.parseIfMatch("W/\"3\"")).isEmpty();
+		assertThat(ETagUtils.parseIfMatch("3")).isEmpty();
+		assertThat(ETagUtils.parseIfMatch("\"\"")).isEmpty();
+		assertThat(ETagUtils.parseIfMatch(",")).isEmpty();
+		assertThat(ETagUtils.parseIfMatch("\"3")).isEmpty();
+	}
+
+	@Test
+	void matchesIfNoneMatchWeakly() {
+		String etag = ETagUtils.of(3);
+
+		assertThat(ETagUtils.matchesNoneMatch("\"3\"", etag)).isTrue();
+		assertThat(ETagUtils.matchesNoneMatch("W/\"3\"", etag)).isTrue();
+		assertThat(ETagUtils.matchesNoneMatch("\"3\"", "W/\"3\"")).isTrue();
+		assertThat(ETagUtils.matchesNoneMatch("\"1\", W/\"2\",  \"3\" ", etag)).isTrue();
+		assertThat(ETagUtils.matchesNoneMatch("*", etag)).isTrue();
+		assertThat(ETagUtils.matchesNoneMatch("\"1\", *", etag)).isTrue();
+	}
+
+	@Test
+	void doesNotMatchOtherOrMalformedIfNoneMatchTags() {
+		String etag = ETagUtils.of(3);
+
+		assertThat(ETagUtils.matchesNoneMatch(null, etag)).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("", etag)).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("\"4\", W/\"5\"", etag)).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("3", etag)).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("W/3", etag)).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("\"3", etag)).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("\"03\"", etag)).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("w/\"3\"", etag)).isFalse();
+	}
+
+	@Test
+	void doesNotMatchTagOfAnotherFormat() {
+		assertThat(ETagUtils.matchesNoneMatch("\"3-cbor\"", ETagUtils.of(3))).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("\"3\", \"3-smile\"", ETagUtils.of(3, MediaType.APPLICATION_CBOR))).isFalse();
+		assertThat(ETagUtils.matchesNoneMatch("W/\"3-cbor\"", ETagUtils.of(3, MediaType.APPLICATION_CBOR))).isTrue();
+	}
+}
@@ -0,0 +1,45 @@
+package com.candescent.PartyService.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link MediaTypeUtils} picks the party response format Spring MVC's negotiation
+ * would, since the format's ETag is chosen before the body is written.
+ */
+class MediaTypeUtilsTests {
+
+	@Test
+	void defaultsToJson() {
+		assertThat(MediaTypeUtils.negotiatePartyMediaType(null)).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(MediaTypeUtils.negotiatePartyMediaType(" ")).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("application/*")).isEqualTo(MediaType.APPLICATION_JSON);
+	}
+
+	@Test
+	void picksRequestedBinaryFormat() {
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("application/x-jackson-smile"))
+				.isEqualTo(MediaTypeUtils.APPLICATION_SMILE);
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("application/cbor, */*")).isEqualTo(MediaType.APPLICATION_CBOR);
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("*/*, application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+	}
+
+	@Test
+	void ordersByQualityThenHeaderOrder() {
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("application/cbor;q=0.5, application/json"))
+				.isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("application/cbor, application/json"))
+				.isEqualTo(MediaType.APPLICATION_CBOR);
+	}
+
+	@Test
+	void returnsNullWhenNoFormatIsAcceptable() {
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("text/xml")).isNull();
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("application/cbor;q=0")).isNull();
+		assertThat(MediaTypeUtils.negotiatePartyMediaType("not a media type")).isNull();
+	}
+}
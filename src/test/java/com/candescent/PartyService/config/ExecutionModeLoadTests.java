@@ -0,0 +1,141 @@
+package com.candescent.PartyService.config;
+
+import com.candescent.PartyService.PartyServiceApplication;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.service.PartyService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same uncached read load through the platform-thread and the virtual-thread request
+ * execution modes and prints throughput and p99 latency for each. More clients than Tomcat threads
+ * are used, so in virtual-thread mode the excess queues in Hikari rather than in Tomcat; every
+ * request must still succeed without a connection timeout.
+ *
+ * Virtual threads need a Java 21+ runtime and the database is a throwaway PostgreSQL container,
+ * so the test is skipped on older runtimes and where Docker is not available.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@Testcontainers(disabledWithoutDocker = true)
+class ExecutionModeLoadTests {
+
+	private static final int PARTIES = 1_000;
+	private static final int CLIENTS = 400;
+	private static final int REQUESTS_PER_CLIENT = 50;
+
+	@Container
+	private static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+	@Test
+	void servesLoadInBothModesWithoutConnectionTimeouts() throws Exception {
+		LoadResult platform = runLoad(false);
+		LoadResult virtual = runLoad(true);
+
+		System.out.printf("platform threads: %,.0f req/s, p99 %.1f ms%n", platform.throughput(), platform.p99Millis());
+		System.out.printf("virtual threads:  %,.0f req/s, p99 %.1f ms%n", virtual.throughput(), virtual.p99Millis());
+		assertThat(platform.failures()).isZero();
+		assertThat(virtual.failures()).isZero();
+		assertThat(platform.connectionTimeouts()).isZero();
+		assertThat(virtual.connectionTimeouts()).isZero();
+	}
+
+	private LoadResult runLoad(boolean virtualThreads) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PartyServiceApplication.class)
+				.run("--server.port=0",
+						"--spring.threads.virtual.enabled=" + virtualThreads,
+						"--server.tomcat.threads.max=50",
+						"--spring.datasource.hikari.maximum-pool-size=10",
+						"--spring.datasource.hikari.minimum-idle=10",
+						"--app.party.cache.enabled=false",
+						"--logging.aspect.enabled=false",
+						"--logging.level.com.candescent.PartyService=INFO",
+						"--spring.datasource.url=" + postgres.getJdbcUrl(),
+						"--spring.datasource.username=" + postgres.getUsername(),
+						"--spring.datasource.password=" + postgres.getPassword())) {
+			List<Long> custIds = createParties(context.getBean(PartyService.class), virtualThreads);
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+					+ "/v1/party/customer/";
+			HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+			long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+			AtomicInteger failures = new AtomicInteger();
+			ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+			long start = System.nanoTime();
+			try {
+				List<Future<?>> futures = new ArrayList<>(CLIENTS);
+				for (int c = 0; c < CLIENTS; c++) {
+					int clientIndex = c;
+					futures.add(clients.submit(() -> {
+						for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+							int i = clientIndex * REQUESTS_PER_CLIENT + r;
+							HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + custIds.get(i % custIds.size())))
+									.timeout(Duration.ofSeconds(60))
+									.build();
+							long sent = System.nanoTime();
+							try {
+								HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+								if (response.statusCode() != 200) {
+									failures.incrementAndGet();
+								}
+							} catch (Exception e) {
+								failures.incrementAndGet();
+							}
+							latencies[i] = System.nanoTime() - sent;
+						}
+						return null;
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				clients.shutdownNow();
+			}
+			long elapsed = System.nanoTime() - start;
+			Counter timeouts = context.getBean(MeterRegistry.class).find("hikaricp.connections.timeout").counter();
+			Arrays.sort(latencies);
+			return new LoadResult(latencies.length * 1e9 / elapsed,
+					latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6,
+					failures.get(), timeouts == null ? 0 : (long) timeouts.count());
+		}
+	}
+
+	private static List<Long> createParties(PartyService partyService, boolean virtualThreads) {
+		List<Long> custIds = new ArrayList<>(PARTIES);
+		for (int i = 0; i < PARTIES; i++) {
+			String key = (virtualThreads ? "1" : "2") + String.format("%09d", i);
+			custIds.add(Long.valueOf(partyService.createParty(PartyRequest.builder()
+					.custFirstName("Load")
+					.custLastName("Test")
+					.emailId("load." + key + "@example.com")
+					.phoneNo(key)
+					.build()).getId()));
+		}
+		return custIds;
+	}
+
+	private record LoadResult(double throughput, double p99Millis, int failures, long connectionTimeouts) {
+	}
+}
@@ -0,0 +1,166 @@
+package com.candescent.PartyService.dataloader;
+
+import com.candescent.PartyService.common.exception.ValidationException;
+import com.candescent.PartyService.config.JacksonConfig;
+import com.candescent.PartyService.dataloader.PartyRecordReader.PartyRecord;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks how {@link PartyRecordReader} splits CSV and NDJSON uploads into records, and the line
+ * numbers and reasons it reports for rows it cannot parse.
+ */
+class PartyRecordReaderTests {
+
+	private static final String HEADER = "custFirstName,custLastName,emailId,phoneNo\n";
+
+	private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+	@Test
+	void readsQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+		List<PartyRecord> records = readCsv(HEADER
+				+ "\"Lee, Jr.\",\"O\"\"Brien\",ann@example.com,\"555 123\"\n"
+				+ "\"Multi\nLine\",\"\",\"\"\"\",\"a,b\"\n"
+				+ "Bob,Kim,bob@example.com,5557654321\n");
+
+		assertThat(records).extracting(PartyRecord::getLine).containsExactly(2L, 3L, 5L);
+		assertThat(records.get(0).getRequest()).isEqualTo(party("Lee, Jr.", "O\"Brien", "ann@example.com", "555 123"));
+		assertThat(records.get(1).getRequest()).isEqualTo(party("Multi\nLine", "", "\"", "a,b"));
+		assertThat(records.get(2).getRequest()).isEqualTo(party("Bob", "Kim", "bob@example.com", "5557654321"));
+		assertThat(records).extracting(PartyRecord::getError).containsOnlyNulls();
+	}
+
+	@Test
+	void keepsQuotesInsideUnquotedFieldsLiterally() throws IOException {
+		List<PartyRecord> records = readCsv(HEADER + "An\"n,Lee\"\",ann@example.com,5551234567\n");
+
+		assertThat(records.get(0).getRequest()).isEqualTo(party("An\"n", "Lee\"\"", "ann@example.com", "5551234567"));
+	}
+
+	@Test
+	void readsCrlfLineEndings() throws IOException {
+		List<PartyRecord> records = readCsv(HEADER.replace("\n", "\r\n")
+				+ "Ann,Lee,ann@example.com,5551234567\r\n"
+				+ "\r\n"
+				+ "\"Two\r\nLines\",Kim,bob@example.com,5557654321\r\n"
+				+ "Cy,Day,cy@example.com,5550000000");
+
+		assertThat(records).extracting(PartyRecord::getLine).containsExactly(2L, 4L, 6L);
+		assertThat(records.get(0).getRequest()).isEqualTo(party("Ann", "Lee", "ann@example.com", "5551234567"));
+		// Line breaks inside quotes are kept as they were written
+		assertThat(records.get(1).getRequest().getCustFirstName()).isEqualTo("Two\r\nLines");
+		assertThat(records.get(2).getRequest()).isEqualTo(party("Cy", "Day", "cy@example.com", "5550000000"));
+	}
+
+	@Test
+	void rejectsShortAndLongRowsWithTheirLineNumbers() throws IOException {
+		List<PartyRecord> records = readCsv(HEADER
+				+ "Ann,Lee,ann@example.com\n"
+				+ "\n"
+				+ "Ann,Lee,ann@example.com,5551234567,extra\n"
+				+ "\"Split\nName\",Lee\n"
+				+ "Ann,Lee,ann@example.com,\n");
+
+		assertThat(records).extracting(PartyRecord::getLine).containsExactly(2L, 4L, 5L, 7L);
+		assertThat(records).extracting(PartyRecord::getError).containsExactly(
+				"Expected 4 fields but found 3",
+				"Expected 4 fields but found 5",
+				"Expected 4 fields but found 2",
+				null);
+		assertThat(records.get(0).getRequest()).isNull();
+		assertThat(records.get(3).getRequest()).isEqualTo(party("Ann", "Lee", "ann@example.com", ""));
+	}
+
+	@Test
+	void mapsColumnsByHeaderNameAndIgnoresOthers() throws IOException {
+		List<PartyRecord> records = readCsv(" PHONENO ,custId,EmailId,custLastName,CustFirstName\n"
+				+ "5551234567,17,ann@example.com,Lee,Ann\n");
+
+		assertThat(records).hasSize(1);
+		assertThat(records.get(0).getRequest()).isEqualTo(party("Ann", "Lee", "ann@example.com", "5551234567"));
+	}
+
+	@Test
+	void rejectsCsvWithoutUsableHeader() {
+		assertThatThrownBy(() -> readCsv("")).isInstanceOf(ValidationException.class).hasMessage("CSV file is empty");
+		assertThatThrownBy(() -> readCsv("custFirstName,custLastName,emailId\nAnn,Lee,ann@example.com\n"))
+				.isInstanceOf(ValidationException.class)
+				.hasMessage("CSV header must include custFirstName, custLastName, emailId and phoneNo");
+	}
+
+	@Test
+	void readsEveryRowOfAnUnterminatedQuoteAsOneField() throws IOException {
+		List<PartyRecord> records = readCsv(HEADER + "\"Ann,Lee,ann@example.com,5551234567\nBob,Kim,bob@example.com,5557654321\n");
+
+		assertThat(records).hasSize(1);
+		assertThat(records.get(0).getLine()).isEqualTo(2);
+		assertThat(records.get(0).getError()).isEqualTo("Expected 4 fields but found 1");
+	}
+
+	@Test
+	void readsNdjsonAndRejectsMalformedLines() throws IOException {
+		List<PartyRecord> records = readNdjson("""
+				{"custFirstName":"Ann","custLastName":"Lee","emailId":"ann@example.com","phoneNo":"5551234567"}
+
+				{"custFirstName":"Bob",
+				{"custFirstName":"Cy","custId":9,"createdAt":"2024-01-01T00:00:00Z"}
+				[1,2]
+				{"custFirstName":{"nested":true}}
+				not json
+				null
+				{"custFirstName":"Dee","phoneNo":5557654321}
+				""");
+
+		assertThat(records).extracting(PartyRecord::getLine).containsExactly(1L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+		assertThat(records).extracting(PartyRecord::getError).containsExactly(
+				null, "Malformed JSON", null, "Malformed JSON", "Malformed JSON", "Malformed JSON", null, null);
+		assertThat(records.get(0).getRequest()).isEqualTo(party("Ann", "Lee", "ann@example.com", "5551234567"));
+		// Export files carry extra fields; they are ignored rather than rejected
+		assertThat(records.get(2).getRequest()).isEqualTo(party("Cy", null, null, null));
+		// A null line parses to no request, which the validator then rejects
+		assertThat(records.get(6).getRequest()).isNull();
+		assertThat(records.get(7).getRequest()).isEqualTo(party("Dee", null, null, "5557654321"));
+	}
+
+	@Test
+	void readsNdjsonWithCrlfLineEndings() throws IOException {
+		List<PartyRecord> records = readNdjson("{\"custFirstName\":\"Ann\"}\r\n\r\n{\"custFirstName\":\"Bob\"}\r\n");
+
+		assertThat(records).extracting(PartyRecord::getLine).containsExactly(1L, 3L);
+		assertThat(records).extracting(record -> record.getRequest().getCustFirstName()).containsExactly("Ann", "Bob");
+	}
+
+	private List<PartyRecord> readCsv(String content) throws IOException {
+		return read(PartyExportFormat.CSV, content);
+	}
+
+	private List<PartyRecord> readNdjson(String content) throws IOException {
+		return read(PartyExportFormat.NDJSON, content);
+	}
+
+	private List<PartyRecord> read(PartyExportFormat format, String content) throws IOException {
+		PartyRecordReader reader = PartyRecordReader.create(format, objectMapper,
+				new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		List<PartyRecord> records = new ArrayList<>();
+		PartyRecord record;
+		while ((record = reader.next()) != null) {
+			records.add(record);
+		}
+		return records;
+	}
+
+	private static PartyRequest party(String firstName, String lastName, String email, String phone) {
+		return new PartyRequest(firstName, lastName, email, phone);
+	}
+}
@@ -0,0 +1,144 @@
+package com.candescent.PartyService.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks {@link FingerprintIndex} probing, backward-shift deletion and resizing. Fingerprints below
+ * 2^32 have their low bits as home slot, so the tests can place entries in a 16-slot table exactly.
+ */
+class FingerprintIndexTests {
+
+	private static final int SLOTS = 16;
+
+	@Test
+	void keepsProbeRunReachableAfterRemovingFromItsMiddle() {
+		FingerprintIndex index = new FingerprintIndex(1);
+		// Three entries with home slot 3 fill slots 3-5, pushing the entry with home 4 to slot 6
+		index.add(3, 1);
+		index.add(3 + SLOTS, 2);
+		index.add(3 + 2 * SLOTS, 3);
+		index.add(4, 4);
+
+		assertThat(index.remove(3 + SLOTS, 2)).isTrue();
+
+		assertThat(index.find(3)).containsExactly(1);
+		assertThat(index.find(3 + SLOTS)).isEmpty();
+		assertThat(index.find(3 + 2 * SLOTS)).containsExactly(3);
+		assertThat(index.find(4)).containsExactly(4);
+		assertThat(index.remove(3, 1)).isTrue();
+		assertThat(index.find(3 + 2 * SLOTS)).containsExactly(3);
+		assertThat(index.find(4)).containsExactly(4);
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.capacity()).isEqualTo(SLOTS);
+	}
+
+	@Test
+	void shiftsEntriesBackAcrossTheEndOfTheTable() {
+		FingerprintIndex index = new FingerprintIndex(1);
+		// Home 14 fills slots 14, 15 and 0; home 15 lands in slot 1 and home 0 in slot 2
+		index.add(14, 1);
+		index.add(14 + SLOTS, 2);
+		index.add(14 + 2 * SLOTS, 3);
+		index.add(15, 4);
+		index.add(SLOTS, 5);
+		index.add(1, 6);
+
+		assertThat(index.remove(14, 1)).isTrue();
+
+		assertThat(index.find(14)).isEmpty();
+		assertThat(index.find(14 + SLOTS)).containsExactly(2);
+		assertThat(index.find(14 + 2 * SLOTS)).containsExactly(3);
+		assertThat(index.find(15)).containsExactly(4);
+		assertThat(index.find(SLOTS)).containsExactly(5);
+		assertThat(index.find(1)).containsExactly(6);
+
+		// The wrapped entries must not move in front of their home slot when the hole is at the end
+		assertThat(index.remove(14 + 2 * SLOTS, 3)).isTrue();
+		assertThat(index.remove(15, 4)).isTrue();
+		assertThat(index.find(14 + SLOTS)).containsExactly(2);
+		assertThat(index.find(SLOTS)).containsExactly(5);
+		assertThat(index.find(1)).containsExactly(6);
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.capacity()).isEqualTo(SLOTS);
+	}
+
+	@Test
+	void keepsEveryEntryAcrossResizes() {
+		FingerprintIndex index = new FingerprintIndex(1);
+		long initialBytes = index.memoryBytes();
+
+		for (int i = 1; i <= 12; i++) {
+			index.add(FingerprintIndex.fingerprint("key" + i), i);
+		}
+		assertThat(index.capacity()).isEqualTo(SLOTS);
+		index.add(FingerprintIndex.fingerprint("key13"), 13);
+		assertThat(index.capacity()).isEqualTo(2 * SLOTS);
+
+		for (int i = 14; i <= 10_000; i++) {
+			index.add(FingerprintIndex.fingerprint("key" + i), i);
+		}
+		assertThat(index.size()).isEqualTo(10_000);
+		assertThat(index.capacity()).isEqualTo(16_384);
+		assertThat(index.memoryBytes()).isGreaterThan(initialBytes * 512);
+		for (int i = 1; i <= 10_000; i++) {
+			assertThat(index.find(FingerprintIndex.fingerprint("key" + i))).containsExactly(i);
+		}
+	}
+
+	@Test
+	void storesSeveralIdsPerFingerprintOnce() {
+		FingerprintIndex index = new FingerprintIndex(16);
+
+		assertThat(index.add(7, 10)).isTrue();
+		assertThat(index.add(7, 11)).isTrue();
+		assertThat(index.add(7, 10)).isFalse();
+		assertThat(index.add(0, 12)).isTrue();
+
+		assertThat(index.find(7)).containsExactlyInAnyOrder(10, 11);
+		assertThat(index.find(0)).containsExactly(12);
+		assertThat(index.find(8)).isEmpty();
+		assertThat(index.remove(7, 12)).isFalse();
+		assertThat(index.remove(0, 12)).isTrue();
+		assertThat(index.find(0)).isEmpty();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	void matchesReferenceModelThroughRandomChanges() {
+		FingerprintIndex index = new FingerprintIndex(1);
+		Map<Long, TreeSet<Long>> model = new HashMap<>();
+		Random random = new Random(11);
+		// Few distinct fingerprints over a small table, so probe runs are long and often wrap
+		for (int step = 0; step < 50_000; step++) {
+			long fingerprint = 1 + random.nextInt(48);
+			long custId = random.nextInt(8);
+			TreeSet<Long> ids = model.computeIfAbsent(fingerprint, key -> new TreeSet<>());
+			if (random.nextInt(2) == 0) {
+				assertThat(index.remove(fingerprint, custId)).isEqualTo(ids.remove(custId));
+			} else {
+				assertThat(index.add(fingerprint, custId)).isEqualTo(ids.add(custId));
+			}
+			if (step % 1_000 == 0) {
+				assertMatches(index, model);
+			}
+		}
+		assertMatches(index, model);
+	}
+
+	private static void assertMatches(FingerprintIndex index, Map<Long, TreeSet<Long>> model) {
+		int size = 0;
+		for (Map.Entry<Long, TreeSet<Long>> entry : model.entrySet()) {
+			long[] expected = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+			assertThat(index.find(entry.getKey())).as("fingerprint %d", entry.getKey()).containsExactlyInAnyOrder(expected);
+			size += expected.length;
+		}
+		assertThat(index.size()).isEqualTo(size);
+	}
+}
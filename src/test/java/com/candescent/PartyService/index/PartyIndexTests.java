@@ -0,0 +1,65 @@
+package com.candescent.PartyService.index;
+
+import com.candescent.PartyService.repository.PartyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that {@link PartyIndex} warm-up does not keep keys replaced by a write that commits while
+ * the scan is running.
+ */
+class PartyIndexTests {
+
+	private final PartyRepository partyRepository = mock(PartyRepository.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void dropsKeysReadByTheScanBeforeAnUpdateCommittedDuringWarmUp() {
+		PartyIndex partyIndex = newPartyIndex();
+		// The update commits after the scan started but before it reads the party, so the scan sees the old keys
+		when(partyRepository.streamKeys()).thenReturn(Stream.of(1L).map(id -> {
+			partyIndex.indexAfterCommit(id, "new@example.com", "222-222-2222", "old@example.com", "111-111-1111");
+			return new PartyKeys(id, "old@example.com", "111-111-1111");
+		}));
+
+		partyIndex.warmUp();
+		await().atMost(Duration.ofSeconds(10)).until(partyIndex::isReady);
+
+		assertThat(partyIndex.findByEmail("OLD@example.com")).isEmpty();
+		assertThat(partyIndex.findByPhone("1111111111")).isEmpty();
+		assertThat(partyIndex.findByEmail("new@example.com")).containsExactly(1L);
+		assertThat(partyIndex.findByPhone("(222) 222-2222")).containsExactly(1L);
+		assertThat(partyIndex.mightContainEmail("old@example.com")).isFalse();
+	}
+
+	@Test
+	void appliesWritesDirectlyOnceWarm() {
+		PartyIndex partyIndex = newPartyIndex();
+		when(partyRepository.streamKeys()).thenReturn(Stream.of(new PartyKeys(1L, "a@example.com", "111-111-1111")));
+		partyIndex.warmUp();
+		await().atMost(Duration.ofSeconds(10)).until(partyIndex::isReady);
+
+		partyIndex.indexAfterCommit(1L, "b@example.com", "111-111-1111", "a@example.com", "111-111-1111");
+
+		assertThat(partyIndex.findByEmail("a@example.com")).isEmpty();
+		assertThat(partyIndex.findByEmail("b@example.com")).containsExactly(1L);
+		assertThat(partyIndex.findByPhone("1111111111")).containsExactly(1L);
+	}
+
+	private PartyIndex newPartyIndex() {
+		PartyBloomFilter bloomFilter = new PartyBloomFilter(false, 1000, 0.01, DataSize.ofMegabytes(1),
+				partyRepository, transactionManager, meterRegistry);
+		return new PartyIndex(true, 16, bloomFilter, partyRepository, transactionManager, meterRegistry);
+	}
+}
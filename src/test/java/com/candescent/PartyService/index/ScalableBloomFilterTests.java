@@ -0,0 +1,79 @@
+package com.candescent.PartyService.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link ScalableBloomFilter} never forgets a key, whether it grows new stages or is
+ * held at its memory limit, and that its false-positive rate stays near the target while it can grow.
+ */
+class ScalableBloomFilterTests {
+
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	@Test
+	void keepsEveryKeyAcrossStageGrowth() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE, 64L << 20);
+		long initialBytes = filter.memoryBytes();
+		long[] keys = keys(1, 100_000);
+
+		for (long key : keys) {
+			filter.put(key);
+		}
+
+		assertThat(filter.memoryBytes()).isGreaterThan(initialBytes * 16);
+		assertThat(filter.isSaturated()).isFalse();
+		for (long key : keys) {
+			assertThat(filter.mightContain(key)).as("key %d", key).isTrue();
+		}
+		assertThat(filter.count()).isBetween(99_000L, 100_000L);
+		assertThat(falsePositiveRate(filter, keys(2, 100_000))).isLessThan(FALSE_POSITIVE_RATE * 2);
+		assertThat(filter.estimatedFalsePositiveRate()).isLessThan(FALSE_POSITIVE_RATE);
+	}
+
+	@Test
+	void keepsEveryKeyOnceSaturated() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE, 16 * 1024);
+		long[] keys = keys(3, 50_000);
+
+		for (long key : keys) {
+			filter.put(key);
+		}
+
+		assertThat(filter.isSaturated()).isTrue();
+		assertThat(filter.memoryBytes()).isLessThanOrEqualTo(16 * 1024);
+		for (long key : keys) {
+			assertThat(filter.mightContain(key)).as("key %d", key).isTrue();
+		}
+		assertThat(filter.estimatedFalsePositiveRate()).isGreaterThan(FALSE_POSITIVE_RATE);
+	}
+
+	@Test
+	void answersNoForKeysNeverAdded() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE, 64L << 20);
+
+		assertThat(filter.mightContain(42L)).isFalse();
+		filter.put(42L);
+		filter.put(42L);
+
+		assertThat(filter.mightContain(42L)).isTrue();
+		assertThat(filter.count()).isEqualTo(1);
+	}
+
+	private static long[] keys(long seed, int count) {
+		return new SplittableRandom(seed).longs(count).toArray();
+	}
+
+	private static double falsePositiveRate(ScalableBloomFilter filter, long[] absentKeys) {
+		long positives = 0;
+		for (long key : absentKeys) {
+			if (filter.mightContain(key)) {
+				positives++;
+			}
+		}
+		return (double) positives / absentKeys.length;
+	}
+}
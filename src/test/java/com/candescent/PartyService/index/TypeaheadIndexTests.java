@@ -0,0 +1,141 @@
+package com.candescent.PartyService.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the custId lists and prefix walks of {@link TypeaheadIndex}, including the appends that
+ * reuse a name's array and the bookkeeping behind its size and memory gauges.
+ */
+class TypeaheadIndexTests {
+
+	@Test
+	void appendsKeepEarlierMatchesAndIdsInOrder() {
+		TypeaheadIndex index = new TypeaheadIndex();
+		index.add("Smith", 1);
+		index.add("Smith", 2);
+		TypeaheadIndex.Match before = single(index.findByPrefix("smith", 10, 10));
+
+		// Appends write into the spare capacity of the array the earlier postings still use
+		index.add("Smith", 3);
+		index.add("Smith", 4);
+		index.remove("Smith", 4);
+		index.add("Smith", 7);
+
+		assertThat(before.getCustIds()).containsExactly(1, 2);
+		assertThat(before.getPartyCount()).isEqualTo(2);
+		assertThat(single(index.findByPrefix("smith", 10, 10)).getCustIds()).containsExactly(1, 2, 3, 7);
+		assertThat(index.entries()).isEqualTo(4);
+	}
+
+	@Test
+	void insertsOutOfOrderIdsInThePostingsMiddle() {
+		TypeaheadIndex index = new TypeaheadIndex();
+		for (long custId : new long[]{10, 20, 30, 40}) {
+			index.add("Jones", custId);
+		}
+
+		assertThat(index.add("Jones", 25)).isTrue();
+		assertThat(index.add("Jones", 5)).isTrue();
+		assertThat(index.add("Jones", 25)).isFalse();
+
+		TypeaheadIndex.Match match = single(index.findByPrefix("jo", 10, 10));
+		assertThat(match.getCustIds()).containsExactly(5, 10, 20, 25, 30, 40);
+		assertThat(match.getPartyCount()).isEqualTo(6);
+		assertThat(single(index.findByPrefix("jo", 10, 2)).getCustIds()).containsExactly(5, 10);
+	}
+
+	@Test
+	void dropsNameWhenItsLastPartyIsRemoved() {
+		TypeaheadIndex index = new TypeaheadIndex();
+		index.add("Brown", 1);
+		index.add("Brown", 2);
+		index.add("Bruce", 3);
+
+		assertThat(index.remove("Brown", 1)).isTrue();
+		assertThat(index.remove("Brown", 1)).isFalse();
+		assertThat(index.names()).isEqualTo(2);
+		assertThat(index.remove("Brown", 2)).isTrue();
+		assertThat(index.remove("Bruce", 3)).isTrue();
+
+		assertThat(index.findByPrefix("b", 10, 10)).isEmpty();
+		assertThat(index.names()).isZero();
+		assertThat(index.entries()).isZero();
+		assertThat(index.memoryBytes()).isZero();
+		assertThat(index.remove("Nobody", 9)).isFalse();
+	}
+
+	@Test
+	void walksPrefixInNameOrderUpToTheLimit() {
+		TypeaheadIndex index = new TypeaheadIndex();
+		index.add("Smithson", 1);
+		index.add("Smith", 2);
+		index.add("smith", 3);
+		index.add("Smyth", 4);
+		index.add("Sm", 5);
+		index.add("Snow", 6);
+		index.add("José  María", 7);
+
+		assertThat(names(index.findByPrefix("SMI", 10, 10))).containsExactly("Smith", "Smithson");
+		assertThat(single(index.findByPrefix("smith", 1, 10)).getCustIds()).containsExactly(2, 3);
+		assertThat(names(index.findByPrefix("sm", 10, 10))).containsExactly("Sm", "Smith", "Smithson", "Smyth");
+		assertThat(names(index.findByPrefix("sm", 2, 10))).containsExactly("Sm", "Smith");
+		assertThat(names(index.findByPrefix("jose m", 10, 10))).containsExactly("José María");
+		assertThat(index.findByPrefix("smz", 10, 10)).isEmpty();
+		assertThat(index.findByPrefix("  ", 10, 10)).isEmpty();
+		assertThat(index.findByPrefix("s", 0, 10)).isEmpty();
+	}
+
+	@Test
+	void matchesReferenceModelThroughRandomChanges() {
+		TypeaheadIndex index = new TypeaheadIndex();
+		Map<String, TreeSet<Long>> model = new TreeMap<>();
+		String[] names = {"ann", "anna", "anne", "bob", "bobby", "carl"};
+		Random random = new Random(7);
+		for (int i = 0; i < 20_000; i++) {
+			String name = names[random.nextInt(names.length)];
+			long custId = random.nextInt(200);
+			if (random.nextInt(3) == 0) {
+				TreeSet<Long> ids = model.get(name);
+				boolean present = ids != null && ids.remove(custId);
+				if (ids != null && ids.isEmpty()) {
+					model.remove(name);
+				}
+				assertThat(index.remove(name, custId)).isEqualTo(present);
+			} else {
+				assertThat(index.add(name, custId)).isEqualTo(model.computeIfAbsent(name, n -> new TreeSet<>()).add(custId));
+			}
+			if (i % 5_000 == 0) {
+				index.trimToSize();
+			}
+		}
+
+		List<TypeaheadIndex.Match> matches = index.findByPrefix("a", 10, Integer.MAX_VALUE);
+		matches.addAll(index.findByPrefix("b", 10, Integer.MAX_VALUE));
+		matches.addAll(index.findByPrefix("c", 10, Integer.MAX_VALUE));
+		assertThat(names(matches)).containsExactlyElementsOf(model.keySet());
+		for (TypeaheadIndex.Match match : matches) {
+			assertThat(match.getCustIds()).containsExactly(model.get(match.getName()).stream().mapToLong(Long::longValue).toArray());
+		}
+		assertThat(index.entries()).isEqualTo(model.values().stream().mapToLong(TreeSet::size).sum());
+	}
+
+	private static TypeaheadIndex.Match single(List<TypeaheadIndex.Match> matches) {
+		assertThat(matches).hasSize(1);
+		return matches.get(0);
+	}
+
+	private static List<String> names(List<TypeaheadIndex.Match> matches) {
+		List<String> names = new ArrayList<>();
+		matches.forEach(match -> names.add(match.getName()));
+		return names;
+	}
+}
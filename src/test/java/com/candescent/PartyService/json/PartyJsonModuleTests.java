@@ -0,0 +1,135 @@
+package com.candescent.PartyService.json;
+
+import com.candescent.PartyService.dto.common.ServiceRequest;
+import com.candescent.PartyService.dto.common.ServiceResponse;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the envelope codecs in {@link PartyJsonModule} write and read exactly what Jackson's
+ * own bean (de)serialization of the annotated DTOs does.
+ */
+class PartyJsonModuleTests {
+
+	private static final TypeReference<ServiceRequest<PartyRequest>> REQUEST = new TypeReference<>() {
+	};
+	private static final TypeReference<ServiceRequest<List<PartyRequest>>> BATCH_REQUEST = new TypeReference<>() {
+	};
+
+	private final JsonMapper codecMapper = JsonMapper.builder().addModule(new PartyJsonModule()).build();
+	private final JsonMapper beanMapper = JsonMapper.builder().build();
+
+	@Test
+	void writesEveryPartyResponseField() throws Exception {
+		PartyResponse party = fullyPopulatedParty();
+
+		assertSameJson(party);
+		assertSameJson(ServiceResponse.success(party, "Party retrieved successfully"));
+	}
+
+	@Test
+	void writesSingleListAndErrorEnvelopes() {
+		PartyResponse first = party("1", "Ann", "Lee", "ann@example.com", "5551234567");
+		PartyResponse partial = party("2", "Bob", null, null, "5557654321");
+
+		assertSameJson(ServiceResponse.success(first));
+		assertSameJson(ServiceResponse.success(List.of(first, partial), "Parties retrieved successfully"));
+		assertSameJson(ServiceResponse.success(List.of(), "No parties"));
+		assertSameJson(ServiceResponse.fail("Party not found with id: 42"));
+		assertSameJson(ServiceResponse.success(Map.of("deleted", 3), "Parties deleted"));
+	}
+
+	@Test
+	void omitsNullFields() {
+		assertSameJson(party(null, null, null, null, null));
+		assertSameJson(ServiceResponse.success(party("3", null, "Kim", null, null)));
+		assertSameJson(new ServiceResponse<>(null, null, null, null));
+		assertSameJson(ServiceResponse.success(null, "Nothing to return"));
+	}
+
+	@Test
+	void readsRequestsLikeBeanDeserialization() {
+		assertSameRequest("""
+				{"partyData":{"custFirstName":"Ann","custLastName":"Lee","emailId":"ann@example.com","phoneNo":"5551234567"}}""");
+		assertSameRequest("""
+				{"partyData":{"custFirstName":"Ann","custLastName":null,"phoneNo":5551234567}}""");
+		assertSameRequest("{\"partyData\":{}}");
+		assertSameRequest("{\"partyData\":null}");
+		assertSameRequest("{}");
+		assertSameRequest(BATCH_REQUEST, """
+				{"partyData":[{"custFirstName":"Ann","emailId":"ann@example.com"},{"custLastName":"Lee"},null]}""");
+		assertSameRequest(BATCH_REQUEST, "{\"partyData\":[]}");
+	}
+
+	@Test
+	void skipsUnknownProperties() {
+		assertSameRequest("""
+				{"requestId":"abc","partyData":{"custFirstName":"Ann","middleName":"Jo","tags":["a",{"b":1}],\
+				"address":{"city":"Pune","lines":[1,2]},"custLastName":"Lee"},"trace":{"span":[1,{"x":null}]}}""");
+		assertSameRequest(BATCH_REQUEST, """
+				{"partyData":[{"custFirstName":"Ann","extra":{"nested":[true]}}],"extra":1}""");
+	}
+
+	@Test
+	void rejectsTheSameMalformedRequests() {
+		for (String json : List.of("{\"partyData\":{\"custFirstName\":{\"a\":1}}}", "{\"partyData\":[1]}", "[]")) {
+			assertThatThrownBy(() -> beanMapper.readValue(json, REQUEST)).isInstanceOf(MismatchedInputException.class);
+			assertThatThrownBy(() -> codecMapper.readValue(json, REQUEST)).isInstanceOf(MismatchedInputException.class);
+		}
+	}
+
+	private void assertSameJson(Object value) {
+		assertThat(codecMapper.writeValueAsString(value)).isEqualTo(beanMapper.writeValueAsString(value));
+	}
+
+	private void assertSameRequest(String json) {
+		assertSameRequest(REQUEST, json);
+	}
+
+	private <T> void assertSameRequest(TypeReference<ServiceRequest<T>> type, String json) {
+		ServiceRequest<T> expected = beanMapper.readValue(json, type);
+		assertThat(codecMapper.readValue(json, type)).isEqualTo(expected);
+		JsonNode tree = beanMapper.readTree(json);
+		assertThat(codecMapper.readValue(codecMapper.treeAsTokens(tree), type)).isEqualTo(expected);
+	}
+
+	private static PartyResponse party(String id, String firstName, String lastName, String email, String phone) {
+		return new PartyResponse(id, firstName, lastName, email, phone, 1L);
+	}
+
+	/**
+	 * A party with a value for every constructor argument, so a field added to {@link PartyResponse}
+	 * but not to {@link PartyResponseSerializer} shows up as a difference.
+	 */
+	private static PartyResponse fullyPopulatedParty() throws Exception {
+		Constructor<?> constructor = Arrays.stream(PartyResponse.class.getConstructors())
+				.max(Comparator.comparingInt(Constructor::getParameterCount))
+				.orElseThrow();
+		Class<?>[] types = constructor.getParameterTypes();
+		Object[] args = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == String.class) {
+				args[i] = "value-" + i;
+			} else if (types[i] == Long.class) {
+				args[i] = (long) i;
+			} else {
+				throw new IllegalStateException("No test value for a " + types[i] + " field");
+			}
+		}
+		return (PartyResponse) constructor.newInstance(args);
+	}
+}
@@ -0,0 +1,123 @@
+package com.candescent.PartyService.repository;
+
+import com.candescent.PartyService.dataloader.PartyRecordReader.PartyRecord;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyImportRejection;
+import com.candescent.PartyService.index.PartyKeys;
+import com.candescent.PartyService.repository.PartyStagingRepository.MergeResult;
+import com.candescent.PartyService.service.PartyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the import merge against a freshly created {@code entity_seq}, checking that merged ids are
+ * positive, never handed out again by Hibernate, and that an id clash fails instead of being
+ * reported as a duplicate. Uses a throwaway PostgreSQL container and is skipped where Docker is
+ * not available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class PartyStagingRepositoryTests {
+
+	private static final String REASON = "exists";
+
+	@Container
+	private static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+	@Autowired
+	private PartyStagingRepository partyStagingRepository;
+
+	@Autowired
+	private PartyService partyService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@AfterEach
+	void deleteRows() {
+		jdbcTemplate.update("DELETE FROM party_import_staging WHERE job_id LIKE 'merge-%'");
+		jdbcTemplate.update("DELETE FROM party_import_rejection WHERE job_id LIKE 'merge-%'");
+		jdbcTemplate.update("DELETE FROM party_outbox WHERE cust_last_name = 'Merge'");
+		jdbcTemplate.update("DELETE FROM party WHERE cust_last_name = 'Merge'");
+	}
+
+	@Test
+	void mergesFreshSequenceIntoIdsHibernateDoesNotReuse() {
+		partyStagingRepository.copy("merge-fresh", List.of(partyRecord(1, "1000000001"), partyRecord(2, "1000000002")));
+
+		MergeResult result = partyStagingRepository.merge("merge-fresh", 0, 2, REASON);
+		long createdId = Long.parseLong(partyService.createParty(request("1000000003")).getId());
+
+		assertThat(result.getInserted()).isEqualTo(2);
+		assertThat(result.getRejected()).isZero();
+		List<Long> mergedIds = result.getInsertedKeys().stream().map(PartyKeys::getId).toList();
+		assertThat(mergedIds).allSatisfy(id -> assertThat(id).isPositive()).doesNotContain(createdId);
+		assertThat(partyService.listParties(0, 100, "Merge", null).getParties())
+				.extracting(party -> Long.valueOf(party.getId()))
+				.containsAll(mergedIds);
+	}
+
+	@Test
+	void rejectsRowsWhoseEmailOrPhoneExists() {
+		partyService.createParty(request("1000000011"));
+		PartyRequest sameEmail = request("1000000012");
+		sameEmail.setEmailId("merge.1000000011@example.com");
+		partyStagingRepository.copy("merge-existing", List.of(new PartyRecord(1, sameEmail, null),
+				partyRecord(2, "1000000011"), partyRecord(3, "1000000013")));
+
+		MergeResult result = partyStagingRepository.merge("merge-existing", 0, 3, REASON);
+
+		assertThat(result.getInserted()).isEqualTo(1);
+		assertThat(result.getRejected()).isEqualTo(2);
+		assertThat(partyStagingRepository.findRejections("merge-existing", 0, 10))
+				.extracting(PartyImportRejection::getLine)
+				.containsExactly(1L, 2L);
+	}
+
+	@Test
+	void failsOnIdClashInsteadOfRejectingTheRow() {
+		Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM entity_seq", Long.class);
+		// The next block the merge draws starts right after the current sequence value
+		jdbcTemplate.update("INSERT INTO party (id, cust_first_name, cust_last_name, email_id, phone_no, created_ts, version) "
+				+ "VALUES (?, 'Clash', 'Merge', 'merge.clash@example.com', '1000000021', now(), 0)", lastValue + 1);
+		partyStagingRepository.copy("merge-clash", List.of(partyRecord(1, "1000000022")));
+
+		assertThatThrownBy(() -> partyStagingRepository.merge("merge-clash", 0, 1, REASON))
+				.isInstanceOf(DuplicateKeyException.class);
+		assertThat(partyStagingRepository.findRejections("merge-clash", 0, 10)).isEmpty();
+	}
+
+	private static PartyRecord partyRecord(long line, String phoneNo) {
+		return new PartyRecord(line, request(phoneNo), null);
+	}
+
+	private static PartyRequest request(String phoneNo) {
+		return PartyRequest.builder()
+				.custFirstName("Ada")
+				.custLastName("Merge")
+				.emailId("merge." + phoneNo + "@example.com")
+				.phoneNo(phoneNo)
+				.build();
+	}
+}
@@ -0,0 +1,109 @@
+package com.candescent.PartyService.service;
+
+import com.candescent.PartyService.common.exception.PreconditionFailedException;
+import com.candescent.PartyService.common.exception.ResourceNotFoundException;
+import com.candescent.PartyService.common.util.ETagUtils;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks single-statement updates under {@code If-Match}, including a header with no usable
+ * strong tag, which must fail the precondition rather than update unconditionally. Runs against
+ * a throwaway PostgreSQL container, and is skipped where Docker is not available.
+ */
+@SpringBootTest(properties = "app.party.update.single-statement=true")
+@Testcontainers(disabledWithoutDocker = true)
+class PartyConditionalUpdateTests {
+
+	@Container
+	private static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+	@Autowired
+	private PartyService partyService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@AfterEach
+	void deleteParties() {
+		jdbcTemplate.update("DELETE FROM party_outbox WHERE cust_last_name = 'Conditional'");
+		jdbcTemplate.update("DELETE FROM party WHERE cust_last_name = 'Conditional'");
+	}
+
+	@Test
+	void rejectsIfMatchWithoutUsableTagAndLeavesPartyUnchanged() {
+		String suffix = suffix();
+		PartyResponse created = partyService.createParty(request("Ada", suffix));
+		Long custId = Long.valueOf(created.getId());
+
+		for (String ifMatch : new String[]{"W/" + ETagUtils.of(created.getVersion()), "\"abc\"", "abc"}) {
+			assertThatThrownBy(() -> partyService.updateParty(custId, request("Grace", suffix), ETagUtils.parseIfMatch(ifMatch)))
+					.as(ifMatch)
+					.isInstanceOfSatisfying(PreconditionFailedException.class,
+							e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+		}
+
+		PartyResponse current = partyService.getPartyByCustId(custId);
+		assertThat(current.getCustFirstName()).isEqualTo("Ada");
+		assertThat(current.getVersion()).isEqualTo(created.getVersion());
+	}
+
+	@Test
+	void reportsMissingPartyBeforeFailedPrecondition() {
+		assertThatThrownBy(() -> partyService.updateParty(Long.MAX_VALUE, request("Grace", suffix()),
+				ETagUtils.parseIfMatch("W/\"1\"")))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	void appliesUpdateOnlyWhileTagMatches() {
+		String suffix = suffix();
+		PartyResponse created = partyService.createParty(request("Ada", suffix));
+		Long custId = Long.valueOf(created.getId());
+		String etag = ETagUtils.of(created.getVersion());
+
+		PartyResponse updated = partyService.updateParty(custId, request("Grace", suffix),
+				ETagUtils.parseIfMatch("\"-1\", " + etag));
+		assertThat(updated.getCustFirstName()).isEqualTo("Grace");
+		assertThat(updated.getVersion()).isGreaterThan(created.getVersion());
+
+		assertThatThrownBy(() -> partyService.updateParty(custId, request("Hedy", suffix), ETagUtils.parseIfMatch(etag)))
+				.isInstanceOf(PreconditionFailedException.class);
+		assertThat(partyService.updateParty(custId, request("Hedy", suffix), ETagUtils.parseIfMatch("*"))
+				.getCustFirstName()).isEqualTo("Hedy");
+	}
+
+	private static String suffix() {
+		return String.valueOf(System.nanoTime() % 10_000_000_000L);
+	}
+
+	private static PartyRequest request(String firstName, String suffix) {
+		return PartyRequest.builder()
+				.custFirstName(firstName)
+				.custLastName("Conditional")
+				.emailId("conditional." + suffix + "@example.com")
+				.phoneNo(String.format("%010d", Long.parseLong(suffix)))
+				.build();
+	}
+}
@@ -0,0 +1,227 @@
+package com.candescent.PartyService.service;
+
+import com.candescent.PartyService.dataloader.PartyImportStatus;
+import com.candescent.PartyService.dto.request.PartyRequest;
+import com.candescent.PartyService.entities.PartyImportJobEntity;
+import com.candescent.PartyService.export.PartyExportFormat;
+import com.candescent.PartyService.index.PartyIndex;
+import com.candescent.PartyService.index.PartyTypeahead;
+import com.candescent.PartyService.repository.PartyImportJobRepository;
+import com.candescent.PartyService.repository.PartyStagingRepository;
+import com.candescent.PartyService.validation.PartyRequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Interrupts import jobs the way a shutdown does and checks that they are resumed rather than
+ * failed, on the same node or, once silent for long enough, on another one. Runs against a
+ * throwaway PostgreSQL container, and is skipped where Docker is not available.
+ */
+@SpringBootTest(properties = "app.party.import.heartbeat-interval=1h")
+@Testcontainers(disabledWithoutDocker = true)
+class PartyImportResumeTests {
+
+	private static final int ROWS = 1000;
+	private static final int CHUNK_SIZE = 100;
+	private static final int BLOCK_AT = 550;
+	private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+
+	@Container
+	private static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+	@Autowired
+	private PartyImportJobRepository partyImportJobRepository;
+
+	@Autowired
+	private PartyStagingRepository partyStagingRepository;
+
+	@Autowired
+	private PartyIndex partyIndex;
+
+	@Autowired
+	private PartyTypeahead partyTypeahead;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@TempDir
+	private Path spoolDir;
+
+	private final List<PartyImportService> services = new ArrayList<>();
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@AfterEach
+	void deleteRows() {
+		services.forEach(PartyImportService::shutdown);
+		jdbcTemplate.update("DELETE FROM party_import_staging WHERE job_id IN (SELECT job_id FROM party_import_job WHERE node LIKE 'resume-%')");
+		jdbcTemplate.update("DELETE FROM party_import_rejection WHERE job_id IN (SELECT job_id FROM party_import_job WHERE node LIKE 'resume-%')");
+		jdbcTemplate.update("DELETE FROM party_import_job WHERE node LIKE 'resume-%'");
+		jdbcTemplate.update("DELETE FROM party_outbox WHERE cust_last_name = 'Resume'");
+		jdbcTemplate.update("DELETE FROM party WHERE cust_last_name = 'Resume'");
+	}
+
+	@Test
+	void resumesJobInterruptedMidStageOnRestart() throws Exception {
+		String jobId = interruptMidStage("resume-a");
+
+		PartyImportJobEntity interrupted = partyImportJobRepository.findById(jobId).orElseThrow();
+		assertThat(interrupted.getStatus()).isEqualTo(PartyImportStatus.STAGING);
+		assertThat(interrupted.getLastStagedLine()).isPositive();
+		assertThat(Path.of(interrupted.getSpoolPath())).exists();
+
+		PartyImportService restarted = importService("resume-a", new PartyRequestValidator(), new SimpleMeterRegistry());
+		restarted.resumeInterruptedJobs();
+
+		PartyImportJobEntity completed = await(jobId, job -> job.getStatus() == PartyImportStatus.COMPLETED);
+		assertThat(completed.getRowsImported()).isEqualTo(ROWS);
+		assertThat(completed.getRowsRejected()).isZero();
+	}
+
+	@Test
+	void takesOverJobOfNodeThatStoppedSendingHeartbeats() throws Exception {
+		String jobId = interruptMidStage("resume-gone");
+		makeSilent(jobId);
+
+		importService("resume-b", new PartyRequestValidator(), new SimpleMeterRegistry()).heartbeat();
+
+		PartyImportJobEntity completed = await(jobId, job -> job.getStatus() == PartyImportStatus.COMPLETED);
+		assertThat(completed.getNode()).isEqualTo("resume-b");
+		assertThat(completed.getRowsImported()).isEqualTo(ROWS);
+	}
+
+	@Test
+	void failsTakenOverJobWhoseSpoolFileIsOnTheGoneNode() throws Exception {
+		String jobId = interruptMidStage("resume-gone");
+		makeSilent(jobId);
+		Files.delete(Path.of(partyImportJobRepository.findById(jobId).orElseThrow().getSpoolPath()));
+
+		importService("resume-b", new PartyRequestValidator(), new SimpleMeterRegistry()).heartbeat();
+
+		PartyImportJobEntity failed = await(jobId, job -> job.getStatus() == PartyImportStatus.FAILED);
+		assertThat(failed.getErrorDescription()).contains("upload the file again");
+		assertThat(failed.getFinishedTs()).isNotNull();
+		assertThat(partyStagingRepository.countStaged(jobId)).isZero();
+	}
+
+	@Test
+	void leavesJobsOfLiveNodesAlone() throws Exception {
+		String jobId = interruptMidStage("resume-alive");
+
+		importService("resume-b", new PartyRequestValidator(), new SimpleMeterRegistry()).heartbeat();
+
+		PartyImportJobEntity job = partyImportJobRepository.findById(jobId).orElseThrow();
+		assertThat(job.getNode()).isEqualTo("resume-alive");
+		assertThat(job.getStatus()).isEqualTo(PartyImportStatus.STAGING);
+	}
+
+	/**
+	 * Submit a job whose validation blocks part way through the file, then shut its service down
+	 * while it is blocked, as a redeploy would.
+	 */
+	private String interruptMidStage(String node) throws Exception {
+		CountDownLatch blocked = new CountDownLatch(1);
+		PartyRequestValidator blocking = new PartyRequestValidator() {
+			@Override
+			public List<String> collectErrors(PartyRequest request) {
+				if (request.getPhoneNo().equals(phoneNo(BLOCK_AT))) {
+					blocked.countDown();
+					try {
+						Thread.sleep(Long.MAX_VALUE);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new IllegalStateException("Interrupted", e);
+					}
+				}
+				return super.collectErrors(request);
+			}
+		};
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		PartyImportService service = importService(node, blocking, meterRegistry);
+		String jobId = service.submit(PartyExportFormat.CSV, new ByteArrayInputStream(csv())).getJobId();
+		assertThat(blocked.await(30, TimeUnit.SECONDS)).isTrue();
+
+		service.shutdown();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (meterRegistry.get("party.import.jobs.admitted").gauge().value() > 0) {
+			assertThat(System.nanoTime()).as("interrupted job still running").isLessThan(deadline);
+			Thread.sleep(20);
+		}
+		return jobId;
+	}
+
+	private void makeSilent(String jobId) {
+		jdbcTemplate.update("UPDATE party_import_job SET heartbeat_ts = ? WHERE job_id = ?",
+				Timestamp.from(Instant.now().minus(STALE_AFTER).minusSeconds(60)), jobId);
+	}
+
+	private PartyImportJobEntity await(String jobId, Predicate<PartyImportJobEntity> condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+		while (true) {
+			PartyImportJobEntity job = partyImportJobRepository.findById(jobId).orElseThrow();
+			if (condition.test(job)) {
+				return job;
+			}
+			assertThat(System.nanoTime()).as("job %s still %s", jobId, job.getStatus()).isLessThan(deadline);
+			Thread.sleep(50);
+		}
+	}
+
+	private PartyImportService importService(String node, PartyRequestValidator validator, SimpleMeterRegistry meterRegistry) {
+		PartyImportService service = new PartyImportService(partyImportJobRepository, partyStagingRepository,
+				partyIndex, partyTypeahead, validator, objectMapper, transactionTemplate, meterRegistry,
+				CHUNK_SIZE, 1, 8, 0, 10, spoolDir, node, Duration.ofDays(7), STALE_AFTER);
+		services.add(service);
+		return service;
+	}
+
+	private static byte[] csv() {
+		StringBuilder csv = new StringBuilder("custFirstName,custLastName,emailId,phoneNo\n");
+		for (int i = 1; i <= ROWS; i++) {
+			csv.append("Ada,Resume,resume.").append(i).append("@example.com,").append(phoneNo(i)).append('\n');
+		}
+		return csv.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String phoneNo(int row) {
+		return String.valueOf(2000000000L + row);
+	}
+}
@@ -0,0 +1,153 @@
+package com.candescent.PartyService.service;
+
+import com.candescent.PartyService.common.exception.ServiceUnavailableException;
+import com.candescent.PartyService.dto.response.PartyChangeEvent;
+import com.candescent.PartyService.dto.response.PartyChangePage;
+import com.candescent.PartyService.dto.response.PartyResponse;
+import com.candescent.PartyService.outbox.PartyChangeType;
+import com.candescent.PartyService.repository.PartyOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that a subscriber whose writes block does not hold up delivery to the others, even when
+ * it occupies the only sender thread, and that the subscriber limit holds under concurrent subscribes.
+ */
+class PartyStreamServiceTests {
+
+	private final PartyChangeService partyChangeService = mock(PartyChangeService.class);
+	private final PartyOutboxRepository partyOutboxRepository = mock(PartyOutboxRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch unblock = new CountDownLatch(1);
+	private PartyStreamService partyStreamService;
+
+	@AfterEach
+	void shutdown() {
+		unblock.countDown();
+		if (partyStreamService != null) {
+			partyStreamService.shutdown();
+		}
+	}
+
+	@Test
+	void stalledSubscriberDoesNotDelayOthers() {
+		when(partyOutboxRepository.findHeadPosition()).thenReturn(0L);
+		when(partyChangeService.getChanges(eq(0L), anyInt())).thenReturn(PartyChangePage.builder()
+				.changes(List.of(change(1L)))
+				.nextSince(1L)
+				.build());
+		partyStreamService = new PartyStreamService(partyChangeService, partyOutboxRepository, meterRegistry,
+				Duration.ofMinutes(1), 10, 100, 100, 1, PartyStreamService.OverflowPolicy.DISCONNECT, 1,
+				Duration.ofMillis(100));
+		BlockingEmitter stalled = new BlockingEmitter(unblock);
+		RecordingEmitter healthy = new RecordingEmitter();
+
+		// The stalled subscriber's opening comment takes the only sender thread and never completes
+		partyStreamService.subscribe(null, stalled);
+		await().atMost(Duration.ofSeconds(5)).until(() -> stalled.blocked);
+		partyStreamService.subscribe(null, healthy);
+
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+			partyStreamService.disconnectStalledSubscribers();
+			assertThat(healthy.events).hasSize(1);
+		});
+		partyStreamService.onRelayed(1L);
+
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(healthy.events).hasSize(2));
+		assertThat(meterRegistry.get("party.stream.write.timeouts").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("party.stream.subscribers").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentSubscribesStayWithinLimit() throws InterruptedException {
+		when(partyOutboxRepository.findHeadPosition()).thenReturn(0L);
+		partyStreamService = new PartyStreamService(partyChangeService, partyOutboxRepository, meterRegistry,
+				Duration.ofMinutes(1), 5, 100, 100, 1, PartyStreamService.OverflowPolicy.DISCONNECT, 1,
+				Duration.ofMillis(100));
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger rejected = new AtomicInteger();
+		ExecutorService clients = Executors.newFixedThreadPool(50);
+		for (int i = 0; i < 50; i++) {
+			clients.execute(() -> {
+				try {
+					start.await();
+					partyStreamService.subscribe(null, new RecordingEmitter());
+				} catch (ServiceUnavailableException e) {
+					rejected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		start.countDown();
+		clients.shutdown();
+		assertThat(clients.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(meterRegistry.get("party.stream.subscribers").gauge().value()).isEqualTo(5);
+		assertThat(rejected).hasValue(45);
+	}
+
+	private static PartyChangeEvent change(long position) {
+		return PartyChangeEvent.builder()
+				.position(position)
+				.type(PartyChangeType.UPDATED)
+				.version(2L)
+				.occurredAt(Instant.now())
+				.party(PartyResponse.builder().id("42").version(2L).build())
+				.build();
+	}
+
+	/**
+	 * Emitter whose writes block like a servlet write to a client that stopped reading.
+	 */
+	private static final class BlockingEmitter extends SseEmitter {
+
+		private final CountDownLatch unblock;
+		private volatile boolean blocked;
+
+		private BlockingEmitter(CountDownLatch unblock) {
+			this.unblock = unblock;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			blocked = true;
+			try {
+				unblock.await(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			throw new IOException("Connection closed");
+		}
+	}
+
+	private static final class RecordingEmitter extends SseEmitter {
+
+		private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			events.add(builder);
+		}
+	}
+}
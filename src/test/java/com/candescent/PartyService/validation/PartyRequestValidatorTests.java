@@ -0,0 +1,132 @@
+package com.candescent.PartyService.validation;
+
+import com.candescent.PartyService.dto.request.PartyRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the single-pass scanners of {@link PartyRequestValidator} accept exactly what the
+ * regular expressions they replaced accepted, and that its first error is the one the old
+ * fail-fast validation reported.
+ */
+class PartyRequestValidatorTests {
+
+	private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+	private static final String PHONE_REGEX = "^[0-9+\\-\\s()]{7,20}$";
+
+	private final PartyRequestValidator validator = new PartyRequestValidator();
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"ann@example.com", "a@b.co", "first.last+tag@sub.example.org", "x_y-z@a-b.c-d.io", "A1@B2.CD",
+			".@..com", "a@.b.com", "a@b..com", "a@-.de", "a@1.2.com", "a@b.c.d.ef",
+			"", "@", "@example.com", "ann@", "ann@example", "ann@example.", "ann@.com", "ann@example.c",
+			"ann@example.c0m", "ann@example.com1", "ann@@example.com", "ann@ex@ample.com", "ann@exa_mple.com",
+			"ann@exa+mple.com", "an n@example.com", " ann@example.com", "ann@example.com ", "ann@example.com\n",
+			"ann@example.co-m", "ann@example.com.", "ann@example..", "ännе@example.com", "ann@exämple.com",
+			"ann@example.cöm", "ann(x)@example.com", "ann@example.COM"})
+	void scansEmailsLikeTheRegex(String email) {
+		assertThat(PartyRequestValidator.isValidEmail(email)).as(email).isEqualTo(email.matches(EMAIL_REGEX));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"5551234567", "+1 (555) 123-4567", "555-1234", "1234567", "12345678901234567890", "(((())))",
+			"+++++++", "555\t123\t4567", "555\n1234567", "555\r\n1234567", "555\u000B1234567", "555\f1234567",
+			"", "123456", "123456789012345678901", "555.123.4567", "555-123-456x", "555 123 4567 ext 1",
+			"555 1234567", "555 1234567", "٥٥٥١٢٣٤٥٦٧", "555_1234567", "555/123/4567", "#5551234567"})
+	void scansPhoneNumbersLikeTheRegex(String phoneNo) {
+		assertThat(PartyRequestValidator.isValidPhoneNumber(phoneNo)).as(phoneNo).isEqualTo(phoneNo.matches(PHONE_REGEX));
+	}
+
+	@Test
+	void scansRandomInputLikeTheRegexes() {
+		char[] alphabet = "aZ09+_.-@ ()\t\nä".toCharArray();
+		Random random = new Random(3);
+		for (int i = 0; i < 200_000; i++) {
+			char[] chars = new char[random.nextInt(24)];
+			for (int j = 0; j < chars.length; j++) {
+				chars[j] = alphabet[random.nextInt(alphabet.length)];
+			}
+			String value = new String(chars);
+			assertThat(PartyRequestValidator.isValidEmail(value)).as(value).isEqualTo(value.matches(EMAIL_REGEX));
+			assertThat(PartyRequestValidator.isValidPhoneNumber(value)).as(value).isEqualTo(value.matches(PHONE_REGEX));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"Ann|Lee|ann@example.com|5551234567",
+			"|Lee|ann@example.com|5551234567",
+			"   |Lee|ann@example.com|5551234567",
+			"\t\n|Lee|ann@example.com|5551234567",
+			"Ann||ann@example.com|5551234567",
+			"Ann| |ann@example.com|5551234567",
+			"Ann|Lee||5551234567",
+			"Ann|Lee|  |5551234567",
+			"Ann|Lee|ann@example|5551234567",
+			"Ann|Lee| ann@example.com|5551234567",
+			"Ann|Lee|ann@example.com|",
+			"Ann|Lee|ann@example.com|   ",
+			"Ann|Lee|ann@example.com|555-12",
+			"Ann|Lee|ann@example.com|555.123.4567",
+			"||||",
+			"|Lee|bad|bad",
+			"Ann||bad|",
+			" Ann | Lee |ann@example.com| 555 123 4567 "})
+	void reportsTheOldFirstErrorFirst(String row) {
+		String[] fields = row.split("\\|", -1);
+		PartyRequest request = new PartyRequest(fields[0], fields[1], fields[2], fields[3]);
+		String expected = regexFirstError(request);
+
+		List<String> errors = validator.collectErrors(request);
+
+		if (expected == null) {
+			assertThat(errors).isEmpty();
+		} else {
+			assertThat(errors).first().isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void collectsEveryFieldError() {
+		assertThat(validator.collectErrors(null)).containsExactly(PartyRequestValidator.REQUEST_REQUIRED);
+		assertThat(validator.collectErrors(new PartyRequest())).containsExactly(
+				PartyRequestValidator.FIRST_NAME_REQUIRED, PartyRequestValidator.LAST_NAME_REQUIRED,
+				PartyRequestValidator.EMAIL_REQUIRED, PartyRequestValidator.PHONE_REQUIRED);
+		assertThat(validator.collectErrors(new PartyRequest("A".repeat(101), "Lee", "ann@example", "12")))
+				.containsExactly(PartyRequestValidator.FIRST_NAME_TOO_LONG, PartyRequestValidator.EMAIL_INVALID,
+						PartyRequestValidator.PHONE_INVALID);
+		assertThat(validator.collectErrors(new PartyRequest("Ann", "L".repeat(101), "a".repeat(251) + "@x.io", "5551234567")))
+				.containsExactly(PartyRequestValidator.LAST_NAME_TOO_LONG, PartyRequestValidator.EMAIL_TOO_LONG);
+	}
+
+	/** The fail-fast checks the controller made before {@link PartyRequestValidator}. */
+	private static String regexFirstError(PartyRequest request) {
+		if (request.getCustFirstName() == null || request.getCustFirstName().trim().isEmpty()) {
+			return PartyRequestValidator.FIRST_NAME_REQUIRED;
+		}
+		if (request.getCustLastName() == null || request.getCustLastName().trim().isEmpty()) {
+			return PartyRequestValidator.LAST_NAME_REQUIRED;
+		}
+		if (request.getEmailId() == null || request.getEmailId().trim().isEmpty()) {
+			return PartyRequestValidator.EMAIL_REQUIRED;
+		}
+		if (!request.getEmailId().matches(EMAIL_REGEX)) {
+			return PartyRequestValidator.EMAIL_INVALID;
+		}
+		if (request.getPhoneNo() == null || request.getPhoneNo().trim().isEmpty()) {
+			return PartyRequestValidator.PHONE_REQUIRED;
+		}
+		if (!request.getPhoneNo().matches(PHONE_REGEX)) {
+			return PartyRequestValidator.PHONE_INVALID;
+		}
+		return null;
+	}
+}